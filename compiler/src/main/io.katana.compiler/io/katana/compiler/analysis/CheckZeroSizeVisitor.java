@@ -15,62 +15,66 @@
 package io.katana.compiler.analysis;
 
 import io.katana.compiler.BuiltinType;
+import io.katana.compiler.backend.PlatformContext;
 import io.katana.compiler.sema.type.*;
 import io.katana.compiler.visitor.IVisitor;
 
 @SuppressWarnings("unused")
 public class CheckZeroSizeVisitor extends IVisitor<Boolean>
 {
-	private static final CheckZeroSizeVisitor INSTANCE = new CheckZeroSizeVisitor();
+	private final PlatformContext context;
 
-	private CheckZeroSizeVisitor() {}
+	private CheckZeroSizeVisitor(PlatformContext context)
+	{
+		this.context = context;
+	}
 
-	public static boolean apply(SemaType type)
+	public static boolean apply(SemaType type, PlatformContext context)
 	{
-		return INSTANCE.invokeSelf(type);
+		return new CheckZeroSizeVisitor(context).invokeSelf(type);
 	}
 
-	private boolean visit(SemaTypeSlice slice)
+	boolean visit(SemaTypeSlice slice)
 	{
 		return false;
 	}
 
-	private boolean visit(SemaTypeArray array)
+	boolean visit(SemaTypeArray array)
 	{
-		return array.length == 0 || apply(array.elementType);
+		return array.length == 0 || Types.isZeroSized(array.elementType, context);
 	}
 
-	private boolean visit(SemaTypeBuiltin builtin)
+	boolean visit(SemaTypeBuiltin builtin)
 	{
 		return builtin.which == BuiltinType.VOID || builtin.which == BuiltinType.NULL;
 	}
 
-	private boolean visit(SemaTypeConst const_)
+	boolean visit(SemaTypeConst const_)
 	{
-		return apply(const_.nestedType);
+		return Types.isZeroSized(const_.nestedType, context);
 	}
 
-	private boolean visit(SemaTypeFunction function)
+	boolean visit(SemaTypeFunction function)
 	{
 		return false;
 	}
 
-	private boolean visit(SemaTypeNonNullablePointer pointer)
+	boolean visit(SemaTypeNonNullablePointer pointer)
 	{
 		return false;
 	}
 
-	private boolean visit(SemaTypeNullablePointer pointer)
+	boolean visit(SemaTypeNullablePointer pointer)
 	{
 		return false;
 	}
 
-	private boolean visit(SemaTypeTuple tuple)
+	boolean visit(SemaTypeTuple tuple)
 	{
 		return tuple.layout.sizeof() == 0;
 	}
 
-	private boolean visit(SemaTypeStruct userDefined)
+	boolean visit(SemaTypeStruct userDefined)
 	{
 		return Types.isZeroSized(userDefined.decl);
 	}
@@ -18,57 +18,135 @@ import io.katana.compiler.backend.PlatformContext;
 import io.katana.compiler.diag.CompileException;
 import io.katana.compiler.sema.decl.SemaDecl;
 import io.katana.compiler.sema.decl.SemaDeclImportedOverloadSet;
+import io.katana.compiler.utils.Futures;
+import io.katana.compiler.utils.Maybe;
 
-import java.util.IdentityHashMap;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
+// resolves decl interfaces in waves: every pending decl is validated concurrently and either finishes
+// or is aborted on the first decl it depends on that is not finished yet, to be retried once that one is.
+// the set of finished decls only changes between waves, so the outcome does not depend on scheduling
 public class DeclDepResolver
 {
-	private PlatformContext context;
-	private IdentityHashMap<SemaDecl, DepResolveState> states = new IdentityHashMap<>();
-	private IdentityHashMap<SemaDecl, DeclInfo> infos = new IdentityHashMap<>();
+	// not a CompileException, overload resolution must not mistake it for a failed match
+	private static class Unresolved extends RuntimeException
+	{
+		private final SemaDecl decl;
+
+		private Unresolved(SemaDecl decl)
+		{
+			super(null, null, false, false);
+			this.decl = decl;
+		}
+	}
+
+	private final PlatformContext context;
+	private final IdentityHashMap<SemaDecl, DeclInfo> infos;
+	private final Set<SemaDecl> finished = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final IdentityHashMap<SemaDecl, SemaDecl> waitingFor = new IdentityHashMap<>();
 
-	private DeclDepResolver(PlatformContext context)
+	private DeclDepResolver(IdentityHashMap<SemaDecl, DeclInfo> infos, PlatformContext context)
 	{
+		this.infos = infos;
 		this.context = context;
 	}
 
-	private void process(SemaDecl decl)
+	private SemaDecl require(SemaDecl decl)
 	{
 		if(decl instanceof SemaDeclImportedOverloadSet)
 			decl = ((SemaDeclImportedOverloadSet)decl).overloadSet;
 
-		var state = states.get(decl);
+		if(infos.containsKey(decl) && !finished.contains(decl))
+			throw new Unresolved(decl);
+
+		return decl;
+	}
 
-		if(state == null)
+	private Maybe<SemaDecl> tryResolve(SemaDecl decl)
+	{
+		var info = infos.get(decl);
+		var dependencies = new ArrayList<SemaDecl>();
+
+		try
 		{
-			states.put(decl, DepResolveState.ONGOING);
-			DeclIfaceValidator.validate(decl, infos.get(decl), context, this::process);
-			states.put(decl, DepResolveState.FINISHED);
-			return;
+			DeclIfaceValidator.validate(decl, info, context, d -> dependencies.add(require(d)));
+			info.dependencies = dependencies;
+			return Maybe.none();
 		}
-
-		switch(state)
+		catch(Unresolved ex)
 		{
-		case ONGOING:
-			throw new CompileException("cyclic dependency detected");
+			return Maybe.some(ex.decl);
+		}
+	}
 
-		case FINISHED:
-			return;
+	private boolean runnable(SemaDecl decl)
+	{
+		var dependency = waitingFor.get(decl);
+		return dependency == null || finished.contains(dependency);
+	}
 
-		default: break;
+	private CompileException cyclicDependency(SemaDecl start)
+	{
+		var path = new ArrayList<SemaDecl>();
+		var decl = start;
+
+		// every stuck decl waits on another stuck one, so this ends up going in circles
+		while(!path.contains(decl))
+		{
+			path.add(decl);
+			decl = waitingFor.get(decl);
 		}
 
-		throw new AssertionError("unreachable");
+		var names = path.subList(path.indexOf(decl), path.size())
+		                .stream()
+		                .map(d -> d.qualifiedName().toString())
+		                .collect(Collectors.toList());
+
+		// the decl the search starts from depends on hashing order, so start the cycle at the first name instead
+		Collections.rotate(names, -names.indexOf(Collections.min(names)));
+		names.add(names.get(0));
+
+		return new CompileException(String.format("cyclic dependency detected: %s", String.join(" -> ", names)));
 	}
 
-	public static void process(IdentityHashMap<SemaDecl, DeclInfo> decls, PlatformContext context)
+	private void resolve(ExecutorService executor)
 	{
-		var resolver = new DeclDepResolver(context);
+		var pending = new ArrayList<>(infos.keySet());
+
+		while(!pending.isEmpty())
+		{
+			var wave = new ArrayList<SemaDecl>();
+			var futures = new ArrayList<Future<Maybe<SemaDecl>>>();
 
-		for(var entry : decls.entrySet())
-			resolver.infos.put(entry.getKey(), entry.getValue());
+			for(var decl : pending)
+				if(runnable(decl))
+				{
+					wave.add(decl);
+					futures.add(executor.submit(() -> tryResolve(decl)));
+				}
 
-		for(var decl : decls.keySet())
-			resolver.process(decl);
+			if(wave.isEmpty())
+				throw cyclicDependency(pending.get(0));
+
+			for(var i = 0; i != wave.size(); ++i)
+			{
+				var dependency = Futures.join(futures.get(i));
+
+				if(dependency.isSome())
+					waitingFor.put(wave.get(i), dependency.unwrap());
+				else
+					finished.add(wave.get(i));
+			}
+
+			pending.removeIf(finished::contains);
+		}
+	}
+
+	public static void process(IdentityHashMap<SemaDecl, DeclInfo> decls, PlatformContext context, ExecutorService executor)
+	{
+		new DeclDepResolver(decls, context).resolve(executor);
 	}
 }
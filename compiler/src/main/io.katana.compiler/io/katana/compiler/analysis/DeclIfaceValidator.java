@@ -30,9 +30,12 @@ import io.katana.compiler.sema.scope.SemaScopeFunctionBody;
 import io.katana.compiler.sema.type.SemaType;
 import io.katana.compiler.utils.Maybe;
 import io.katana.compiler.visitor.IVisitor;
+import io.katana.compiler.visitor.PartialVisitor;
 
+import java.util.ArrayList;
 import java.util.function.Consumer;
 
+@PartialVisitor
 @SuppressWarnings("unused")
 public class DeclIfaceValidator extends IVisitor<Void>
 {
@@ -61,14 +64,21 @@ public class DeclIfaceValidator extends IVisitor<Void>
 		return TypeValidator.validate(type, scope, context, validateDecl);
 	}
 
-	private void visit(SemaDeclStruct semaStruct, AstDeclStruct struct, SemaScopeFile scope)
+	void visit(SemaDeclStruct semaStruct, AstDeclStruct struct, SemaScopeFile scope)
 	{
+		// validation is restarted when it runs into unresolved decls, see DeclDepResolver,
+		// so validate everything that may run into one before modifying the struct
+		var types = new ArrayList<SemaType>();
+
 		for(var field : struct.fields)
+			types.add(validate(field.type, scope));
+
+		for(var i = 0; i != struct.fields.size(); ++i)
 		{
-			var type = validate(field.type, scope);
+			var name = struct.fields.get(i).name;
 
-			if(!semaStruct.defineField(field.name, type))
-				throw new CompileException(String.format("duplicate field '%s' in type '%s'", field.name, semaStruct.name()));
+			if(!semaStruct.defineField(name, types.get(i)))
+				throw new CompileException(String.format("duplicate field '%s' in type '%s'", name, semaStruct.name()));
 		}
 
 		var builder = new StructLayoutBuilder(context);
@@ -86,6 +96,11 @@ public class DeclIfaceValidator extends IVisitor<Void>
 		else
 			semaFunction.scope = new SemaScopeFunction(scope, semaFunction);
 
+		// later parameter types may refer to earlier parameters, so these cannot be validated up front;
+		// start over instead in case a previous attempt was aborted, see DeclDepResolver
+		semaFunction.fixedParams.clear();
+		semaFunction.paramsByName.clear();
+
 		for(var param : function.params.fixedParams)
 		{
 			var type = validate(param.type, semaFunction.scope);
@@ -131,7 +146,7 @@ public class DeclIfaceValidator extends IVisitor<Void>
 			}
 	}
 
-	private void visit(SemaDeclOverloadSet semaSet, AstDeclOverloadSet set, SemaScopeFile scope)
+	void visit(SemaDeclOverloadSet semaSet, AstDeclOverloadSet set, SemaScopeFile scope)
 	{
 		for(var i = 0; i != semaSet.overloads.size(); ++i)
 		{
@@ -143,7 +158,7 @@ public class DeclIfaceValidator extends IVisitor<Void>
 		checkForDuplicates(semaSet);
 	}
 
-	private void visit(SemaDeclGlobal semaGlobal, AstDeclGlobal global, SemaScopeFile scope)
+	void visit(SemaDeclGlobal semaGlobal, AstDeclGlobal global, SemaScopeFile scope)
 	{
 		var maybeDeclaredType = global.type.map(type -> validate(type, scope));
 		var maybeDeclaredTypeNoConst = maybeDeclaredType.map(Types::removeConst);
@@ -177,11 +192,11 @@ public class DeclIfaceValidator extends IVisitor<Void>
 		semaGlobal.type = globalType;
 	}
 
-	private void visit(SemaDeclTypeAlias semaAlias, AstDeclTypeAlias alias, SemaScopeFile scope)
+	void visit(SemaDeclTypeAlias semaAlias, AstDeclTypeAlias alias, SemaScopeFile scope)
 	{
 		semaAlias.aliasedType = validate(alias.aliasedType, scope);
 	}
 
-	private void visit(SemaDeclOperator semaDecl, AstDeclOperator decl, SemaScopeFile scope)
+	void visit(SemaDeclOperator semaDecl, AstDeclOperator decl, SemaScopeFile scope)
 	{}
 }
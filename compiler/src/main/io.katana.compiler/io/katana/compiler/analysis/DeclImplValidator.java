@@ -16,17 +16,49 @@ package io.katana.compiler.analysis;
 
 import io.katana.compiler.ast.decl.AstDeclFunctionDef;
 import io.katana.compiler.ast.decl.AstDeclOverloadSet;
+import io.katana.compiler.backend.FunctionNameMangling;
 import io.katana.compiler.backend.PlatformContext;
+import io.katana.compiler.incremental.FunctionRecord;
+import io.katana.compiler.incremental.IncrementalState;
 import io.katana.compiler.sema.decl.SemaDecl;
 import io.katana.compiler.sema.decl.SemaDeclFunctionDef;
+import io.katana.compiler.sema.decl.SemaDeclImportedOverloadSet;
 import io.katana.compiler.sema.decl.SemaDeclOverloadSet;
+import io.katana.compiler.utils.Futures;
+import io.katana.compiler.utils.Hashing;
+import io.katana.compiler.utils.Maybe;
 
-import java.util.IdentityHashMap;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 public class DeclImplValidator
 {
-	public static void validate(IdentityHashMap<SemaDecl, DeclInfo> decls, PlatformContext context)
+	private final IdentityHashMap<SemaDecl, DeclInfo> decls;
+	private final PlatformContext context;
+	private final Maybe<IncrementalState> incremental;
+	private final Map<String, String> fingerprints = new HashMap<>();
+
+	private DeclImplValidator(IdentityHashMap<SemaDecl, DeclInfo> decls, PlatformContext context, Maybe<IncrementalState> incremental)
+	{
+		this.decls = decls;
+		this.context = context;
+		this.incremental = incremental;
+	}
+
+	// function bodies only depend on the already resolved interfaces, so they are validated concurrently;
+	// failures are rethrown in the order the functions were submitted in
+	public static void validate(IdentityHashMap<SemaDecl, DeclInfo> decls, PlatformContext context, ExecutorService executor, Maybe<IncrementalState> incremental)
 	{
+		var validator = new DeclImplValidator(decls, context, incremental);
+
+		if(incremental.isSome())
+			for(var decl : decls.keySet())
+				validator.fingerprint(decl);
+
+		var futures = new ArrayList<Future<?>>();
+
 		for(var entry : decls.entrySet())
 		{
 			var decl = entry.getKey();
@@ -35,13 +67,37 @@ public class DeclImplValidator
 			{
 				var set = (SemaDeclOverloadSet)decl;
 				var info = entry.getValue();
-				validateOverloadSet(set, (AstDeclOverloadSet)info.astDecl, context);
+				validator.validateOverloadSet(set, info, executor, futures);
 			}
 		}
+
+		for(var future : futures)
+			Futures.join(future);
 	}
 
-	private static void validateOverloadSet(SemaDeclOverloadSet semaSet, AstDeclOverloadSet set, PlatformContext context)
+	// covers the decl's own interface as well as the interfaces of everything it depends on
+	private String fingerprint(SemaDecl decl)
 	{
+		var info = decls.get(decl);
+
+		if(info.fingerprint != null)
+			return info.fingerprint;
+
+		var builder = new StringBuilder(info.sourceFingerprint);
+
+		for(var dependency : info.dependencies)
+			if(decls.containsKey(dependency))
+				builder.append(fingerprint(dependency));
+
+		info.fingerprint = Hashing.sha256(builder.toString());
+		fingerprints.put(decl.qualifiedName().toString(), info.fingerprint);
+		return info.fingerprint;
+	}
+
+	private void validateOverloadSet(SemaDeclOverloadSet semaSet, DeclInfo info, ExecutorService executor, List<Future<?>> futures)
+	{
+		var set = (AstDeclOverloadSet)info.astDecl;
+
 		for(var i = 0; i != semaSet.overloads.size(); ++i)
 		{
 			var overload = semaSet.overloads.get(i);
@@ -51,13 +107,48 @@ public class DeclImplValidator
 
 			var semaFunction = (SemaDeclFunctionDef)overload;
 			var function = (AstDeclFunctionDef)set.overloads.get(i);
-			validateDefinedFunction(semaFunction, function, context);
+
+			if(incremental.isNone())
+			{
+				futures.add(executor.submit(() -> validateDefinedFunction(semaFunction, function, ign -> {})));
+				continue;
+			}
+
+			var fingerprint = Hashing.sha256(info.definitionFingerprints.get(i) + info.fingerprint);
+			futures.add(executor.submit(() -> validateDefinedFunction(semaFunction, function, fingerprint)));
 		}
 	}
 
-	private static void validateDefinedFunction(SemaDeclFunctionDef semaDecl, AstDeclFunctionDef decl, PlatformContext context)
+	private void validateDefinedFunction(SemaDeclFunctionDef semaFunction, AstDeclFunctionDef function, String fingerprint)
+	{
+		var state = incremental.get();
+		var name = FunctionNameMangling.of(semaFunction);
+
+		if(state.reuse(name, fingerprint, fingerprints))
+			return;
+
+		var used = new ArrayList<SemaDecl>();
+
+		validateDefinedFunction(semaFunction, function, decl ->
+		{
+			if(decl instanceof SemaDeclImportedOverloadSet)
+				decl = ((SemaDeclImportedOverloadSet)decl).overloadSet;
+
+			used.add(decl);
+		});
+
+		var dependencies = new TreeMap<String, String>();
+
+		for(var decl : used)
+			if(decls.containsKey(decl))
+				dependencies.put(decl.qualifiedName().toString(), decls.get(decl).fingerprint);
+
+		state.record(name, new FunctionRecord(fingerprint, dependencies));
+	}
+
+	private void validateDefinedFunction(SemaDeclFunctionDef semaDecl, AstDeclFunctionDef decl, Consumer<SemaDecl> validateDecl)
 	{
-		var validator = new StmtValidator(semaDecl, semaDecl.scope, context, (ign) -> {});
+		var validator = new StmtValidator(semaDecl, semaDecl.scope, context, validateDecl);
 
 		for(var stmt : decl.body)
 		{
@@ -15,12 +15,21 @@
 package io.katana.compiler.analysis;
 
 import io.katana.compiler.ast.decl.AstDecl;
+import io.katana.compiler.sema.decl.SemaDecl;
 import io.katana.compiler.sema.scope.SemaScopeFile;
 
+import java.util.List;
+
 public class DeclInfo
 {
 	public AstDecl astDecl;
 	public SemaScopeFile scope;
+	public List<SemaDecl> dependencies;
+
+	// only computed for incremental builds, see IncrementalState
+	public String sourceFingerprint;
+	public List<String> definitionFingerprints;
+	public String fingerprint;
 
 	public DeclInfo(AstDecl astDecl, SemaScopeFile scope)
 	{
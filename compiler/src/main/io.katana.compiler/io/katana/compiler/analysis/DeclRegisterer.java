@@ -23,9 +23,11 @@ import io.katana.compiler.sema.SemaProgram;
 import io.katana.compiler.sema.decl.*;
 import io.katana.compiler.sema.scope.SemaScopeFile;
 import io.katana.compiler.visitor.IVisitor;
+import io.katana.compiler.visitor.PartialVisitor;
 
 import java.util.IdentityHashMap;
 
+@PartialVisitor
 @SuppressWarnings("unused")
 public class DeclRegisterer extends IVisitor<SemaDecl>
 {
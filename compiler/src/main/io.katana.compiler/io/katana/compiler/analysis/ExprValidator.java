@@ -30,6 +30,7 @@ import io.katana.compiler.sema.scope.SemaScope;
 import io.katana.compiler.sema.type.*;
 import io.katana.compiler.utils.Maybe;
 import io.katana.compiler.visitor.IVisitor;
+import io.katana.compiler.visitor.PartialVisitor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,6 +39,7 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+@PartialVisitor
 @SuppressWarnings("unused")
 public class ExprValidator extends IVisitor<SemaExpr>
 {
@@ -70,7 +72,40 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		if(expectedType == null)
 			return result;
 
-		return ImplicitConversions.perform(result, expectedType);
+		return ImplicitConversions.perform(result, expectedType, context);
+	}
+
+	// whether the expected type can influence more than the implicit conversions applied to the result,
+	// proxies and parens pass it on to the nested expression, see unwrapTransparent
+	static boolean dependsOnExpectedType(AstExpr expr)
+	{
+		if(expr instanceof AstExprProxy || expr instanceof AstExprParens)
+			return dependsOnExpectedType(unwrapTransparent(expr));
+
+		if(expr instanceof AstExprConst || expr instanceof AstExprDeref)
+			return true;
+
+		if(expr instanceof AstExprLitInt)
+			return ((AstExprLitInt)expr).type.isNone();
+
+		if(expr instanceof AstExprLitFloat)
+			return ((AstExprLitFloat)expr).type.isNone();
+
+		if(expr instanceof AstExprLitArray)
+			return ((AstExprLitArray)expr).elementType.isNone();
+
+		return false;
+	}
+
+	static AstExpr unwrapTransparent(AstExpr expr)
+	{
+		if(expr instanceof AstExprProxy)
+			return ((AstExprProxy)expr).nestedExpr;
+
+		if(expr instanceof AstExprParens)
+			return ((AstExprParens)expr).nestedExpr;
+
+		return expr;
 	}
 
 	private SemaType validate(AstType type)
@@ -78,7 +113,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return TypeValidator.validate(type, scope, context, validateDecl);
 	}
 
-	private SemaExpr visit(AstExprProxy proxy, SemaType expectedType)
+	SemaExpr visit(AstExprProxy proxy, SemaType expectedType)
 	{
 		return validate(proxy.nestedExpr, expectedType);
 	}
@@ -112,7 +147,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		}
 	}
 
-	private SemaExpr visit(AstExprAddressof addressof, SemaType expectedType)
+	SemaExpr visit(AstExprAddressof addressof, SemaType expectedType)
 	{
 		var expr = validate(addressof.pointeeExpr);
 
@@ -132,17 +167,17 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprAddressof(expr);
 	}
 
-	private SemaExpr visit(AstExprAlignofExpr alignof, SemaType expectedType)
+	SemaExpr visit(AstExprAlignofExpr alignof, SemaType expectedType)
 	{
 		return new SemaExprAlignofExpr(validate(alignof.nestedExpr));
 	}
 
-	private SemaExpr visit(AstExprAlignofType alignof, SemaType expectedType)
+	SemaExpr visit(AstExprAlignofType alignof, SemaType expectedType)
 	{
 		return new SemaExprAlignofType(validate(alignof.inspectedType));
 	}
 
-	private SemaExpr visit(AstExprIndexAccess indexAccess, SemaType expectedType)
+	SemaExpr visit(AstExprIndexAccess indexAccess, SemaType expectedType)
 	{
 		var value = validate(indexAccess.indexeeExpr);
 		var index = validate(indexAccess.indexExpr, SemaTypeBuiltin.INT).asRValue();
@@ -162,7 +197,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprArrayIndexAccess(value, index);
 	}
 
-	private SemaExpr visit(AstExprAssign assign, SemaType expectedType)
+	SemaExpr visit(AstExprAssign assign, SemaType expectedType)
 	{
 		var left = validate(assign.leftExpr);
 
@@ -188,7 +223,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprAssign(left, right);
 	}
 
-	private SemaExpr visit(AstExprBuiltinCall builtinCall, SemaType expectedType)
+	SemaExpr visit(AstExprBuiltinCall builtinCall, SemaType expectedType)
 	{
 		var maybeFunc = Builtins.tryFind(builtinCall.name);
 
@@ -224,7 +259,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprBuiltinCall(builtin.which, args, returnType.unwrap());
 	}
 
-	private SemaExpr visit(AstExprConst const_, SemaType expectedType)
+	SemaExpr visit(AstExprConst const_, SemaType expectedType)
 	{
 		var expr = validate(const_.nestedExpr, expectedType);
 
@@ -234,7 +269,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprConst(expr);
 	}
 
-	private SemaExpr visit(AstExprDeref deref, SemaType expectedType)
+	SemaExpr visit(AstExprDeref deref, SemaType expectedType)
 	{
 		var expectedPointerType = expectedType == null ? null : Types.addNonNullablePointer(expectedType);
 		var expr = validate(deref.pointerExpr, expectedPointerType).asRValue();
@@ -248,7 +283,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprDeref(expr);
 	}
 
-	private SemaExpr visit(AstExprFunctionCall call, SemaType expectedType)
+	SemaExpr visit(AstExprFunctionCall call, SemaType expectedType)
 	{
 		var expr = validate(call.functionExpr);
 
@@ -262,13 +297,13 @@ public class ExprValidator extends IVisitor<SemaExpr>
 				if(function.exportKind != ExportKind.HIDDEN)
 					candidates.add(function);
 
-			return Overloading.resolve(candidates, set.name(), call.argExprs, call.inline, this::validate);
+			return Overloading.resolve(candidates, set.name(), call.argExprs, call.inline, this::validate, context);
 		}
 
 		if(expr instanceof SemaExprNamedOverloadSet)
 		{
 			var set = ((SemaExprNamedOverloadSet)expr).decl;
-			return Overloading.resolve(set.overloads, set.name(), call.argExprs, call.inline, this::validate);
+			return Overloading.resolve(set.overloads, set.name(), call.argExprs, call.inline, this::validate, context);
 		}
 
 		expr = autoDeref(expr);
@@ -293,7 +328,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprIndirectFunctionCall(expr, args);
 	}
 
-	private SemaExpr visit(AstExprLitArray lit, SemaType expectedType)
+	SemaExpr visit(AstExprLitArray lit, SemaType expectedType)
 	{
 		var maybeType = lit.elementType.map(this::validate);
 
@@ -330,7 +365,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprLitArray(maybeType.unwrap(), values);
 	}
 
-	private SemaExpr visit(AstExprLitBool lit, SemaType expectedType)
+	SemaExpr visit(AstExprLitBool lit, SemaType expectedType)
 	{
 		return SemaExprLitBool.of(lit.value);
 	}
@@ -366,7 +401,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return builtin.which;
 	}
 
-	private SemaExpr visit(AstExprLitFloat lit, SemaType expectedType)
+	SemaExpr visit(AstExprLitFloat lit, SemaType expectedType)
 	{
 		var type = lit.type;
 
@@ -382,7 +417,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprLitFloat(lit.value, type.unwrap());
 	}
 
-	private SemaExpr visit(AstExprLitInt lit, SemaType expectedType)
+	SemaExpr visit(AstExprLitInt lit, SemaType expectedType)
 	{
 		if(expectedType == null)
 			expectedType = SemaTypeBuiltin.INT;
@@ -401,12 +436,12 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprLitInt(lit.value, type.unwrap());
 	}
 
-	private SemaExpr visit(AstExprLitNull lit, SemaType expectedType)
+	SemaExpr visit(AstExprLitNull lit, SemaType expectedType)
 	{
 		return SemaExprLitNull.INSTANCE;
 	}
 
-	private SemaExpr visit(AstExprLitString lit, SemaType expectedType)
+	SemaExpr visit(AstExprLitString lit, SemaType expectedType)
 	{
 		return new SemaExprLitString(lit.value);
 	}
@@ -453,14 +488,14 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return expr;
 	}
 
-	private SemaExpr visit(AstExprMemberAccess memberAccess, SemaType expectedType)
+	SemaExpr visit(AstExprMemberAccess memberAccess, SemaType expectedType)
 	{
 		var expr = validate(memberAccess.accesseeExpr);
 
 		if(expr instanceof SemaExprNamedRenamedImport)
 		{
 			var import_ = ((SemaExprNamedRenamedImport)expr).decl;
-			var decl = import_.decls.get(memberAccess.memberName);
+			var decl = import_.module.exports().get(memberAccess.memberName);
 
 			if(decl == null)
 				throw new CompileException(String.format("reference to unknown symbol '%s.%s'", import_.module.path(), memberAccess.memberName));
@@ -518,7 +553,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprFieldAccess(expr, field.unwrap(), Types.isConst(type));
 	}
 
-	private SemaExpr visit(AstExprNamedGlobal namedGlobal, SemaType expectedType)
+	SemaExpr visit(AstExprNamedGlobal namedGlobal, SemaType expectedType)
 	{
 		var candidates = scope.find(namedGlobal.name);
 
@@ -536,7 +571,7 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return namedDeclExpr((SemaDecl)symbol, true);
 	}
 
-	private SemaExpr visit(AstExprNamedSymbol namedSymbol, SemaType expectedType)
+	SemaExpr visit(AstExprNamedSymbol namedSymbol, SemaType expectedType)
 	{
 		var candidates = scope.find(namedSymbol.name);
 
@@ -578,12 +613,12 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		return new SemaExprCast(targetType, semaExpr, kind);
 	}
 
-	private SemaExpr visit(AstExprNarrowCast cast, SemaType expectedType)
+	SemaExpr visit(AstExprNarrowCast cast, SemaType expectedType)
 	{
 		return validateCast(cast.targetType, cast.nestedExpr, SemaExprCast.Kind.NARROW_CAST);
 	}
 
-	private SemaExpr visit(AstExprOffsetof offsetof, SemaType expectedType)
+	SemaExpr visit(AstExprOffsetof offsetof, SemaType expectedType)
 	{
 		var candidates = scope.find(offsetof.typeName);
 
@@ -598,10 +633,12 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		if(!(symbol instanceof SemaDeclStruct))
 			throw new CompileException(String.format("symbol '%s' does not refer to a type", offsetof.typeName));
 
+		validateDecl.accept((SemaDecl)symbol);
+
 		var field = ((SemaDeclStruct)symbol).findField(offsetof.fieldName);
 
 		if(field.isNone())
-			errorNoSuchField(new SemaTypeStruct((SemaDeclStruct)symbol), offsetof.fieldName);
+			errorNoSuchField(SemaTypeStruct.of((SemaDeclStruct)symbol), offsetof.fieldName);
 
 		return new SemaExprOffsetof(field.unwrap());
 	}
@@ -617,6 +654,8 @@ public class ExprValidator extends IVisitor<SemaExpr>
 			throw new CompileException("nyi");
 
 		var symbol = candidates.get(0);
+		validateDecl.accept((SemaDecl)symbol);
+
 		var set = symbol instanceof SemaDeclOverloadSet
 		          ? (SemaDeclOverloadSet)symbol
 		          : ((SemaDeclImportedOverloadSet)symbol).overloadSet;
@@ -625,50 +664,50 @@ public class ExprValidator extends IVisitor<SemaExpr>
 		                             .filter(o -> o.exportKind != ExportKind.HIDDEN)
 		                             .collect(Collectors.toList());
 
-		return Overloading.resolve(overloads, set.name(), args, Inlining.AUTO, this::validate);
+		return Overloading.resolve(overloads, set.name(), args, Inlining.AUTO, this::validate, context);
 	}
 
-	private SemaExpr visit(AstExprOpInfix op, SemaType expectedType)
+	SemaExpr visit(AstExprOpInfix op, SemaType expectedType)
 	{
 		return handleOperatorCall(op.decl.operator.symbol, Kind.INFIX, Arrays.asList(op.left, op.right), expectedType);
 	}
 
-	private SemaExpr visit(AstExprOpPrefix op, SemaType expectedType)
+	SemaExpr visit(AstExprOpPrefix op, SemaType expectedType)
 	{
 		return handleOperatorCall(op.decl.operator.symbol, Kind.PREFIX, Collections.singletonList(op.expr), expectedType);
 	}
 
-	private SemaExpr visit(AstExprOpPostfix op, SemaType expectedType)
+	SemaExpr visit(AstExprOpPostfix op, SemaType expectedType)
 	{
 		return handleOperatorCall(op.decl.operator.symbol, Kind.POSTFIX, Collections.singletonList(op.expr), expectedType);
 	}
 
-	private SemaExpr visit(AstExprParens parens, SemaType expectedType)
+	SemaExpr visit(AstExprParens parens, SemaType expectedType)
 	{
 		return validate(parens.nestedExpr, expectedType);
 	}
 
-	private SemaExpr visit(AstExprPointerCast cast, SemaType expectedType)
+	SemaExpr visit(AstExprPointerCast cast, SemaType expectedType)
 	{
 		return validateCast(cast.targetType, cast.nestedExpr, SemaExprCast.Kind.POINTER_CAST);
 	}
 
-	private SemaExpr visit(AstExprSignCast cast, SemaType expectedType)
+	SemaExpr visit(AstExprSignCast cast, SemaType expectedType)
 	{
 		return validateCast(cast.targetType, cast.nestedExpr, SemaExprCast.Kind.SIGN_CAST);
 	}
 
-	private SemaExpr visit(AstExprSizeofExpr sizeof, SemaType expectedType)
+	SemaExpr visit(AstExprSizeofExpr sizeof, SemaType expectedType)
 	{
 		return new SemaExprSizeofExpr(validate(sizeof.nestedExpr));
 	}
 
-	private SemaExpr visit(AstExprSizeofType sizeof, SemaType expectedType)
+	SemaExpr visit(AstExprSizeofType sizeof, SemaType expectedType)
 	{
 		return new SemaExprSizeofType(validate(sizeof.inspectedType));
 	}
 
-	private SemaExpr visit(AstExprWidenCast cast, SemaType expectedType)
+	SemaExpr visit(AstExprWidenCast cast, SemaType expectedType)
 	{
 		return validateCast(cast.targetType, cast.nestedExpr, SemaExprCast.Kind.WIDEN_CAST);
 	}
@@ -0,0 +1,149 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.analysis;
+
+import io.katana.compiler.ast.AstFile;
+import io.katana.compiler.ast.AstPath;
+import io.katana.compiler.ast.AstProgram;
+import io.katana.compiler.ast.decl.AstDecl;
+import io.katana.compiler.ast.decl.AstDeclFunctionDef;
+import io.katana.compiler.ast.decl.AstDeclOperator;
+import io.katana.compiler.ast.decl.AstDeclOperatorDef;
+import io.katana.compiler.utils.Hashing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+// hashes of the parts of the ast that analysis results depend on; these have to be computed
+// before operators are parsed, as that replaces parts of the ast with references to sema decls
+public class Fingerprints
+{
+	private static class InterfaceOutputStream extends ObjectOutputStream
+	{
+		private InterfaceOutputStream(ByteArrayOutputStream stream) throws IOException
+		{
+			super(stream);
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj)
+		{
+			if(!(obj instanceof AstDeclFunctionDef))
+				return obj;
+
+			var function = (AstDeclFunctionDef)obj;
+
+			if(function instanceof AstDeclOperatorDef)
+			{
+				var operator = (AstDeclOperatorDef)function;
+				return new AstDeclOperatorDef(operator.exportKind, operator.operator, operator.kind, operator.params, operator.returnType, List.of());
+			}
+
+			return new AstDeclFunctionDef(function.exportKind, function.name, function.params, function.returnType, List.of());
+		}
+	}
+
+	private static String hash(AstDecl decl, boolean withBodies)
+	{
+		try
+		{
+			var bytes = new ByteArrayOutputStream();
+
+			try(var stream = withBodies ? new ObjectOutputStream(bytes) : new InterfaceOutputStream(bytes))
+			{
+				stream.writeObject(decl);
+			}
+
+			return Hashing.sha256(bytes.toByteArray());
+		}
+		catch(IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	public static String ofInterface(AstDecl decl)
+	{
+		return hash(decl, false);
+	}
+
+	public static String ofDefinition(AstDeclFunctionDef function, String scope)
+	{
+		return Hashing.sha256(scope + hash(function, true));
+	}
+
+	private static Map<AstPath, List<String>> symbolsByModule(AstProgram program)
+	{
+		var result = new HashMap<AstPath, List<String>>();
+
+		for(var file : program.files.values())
+			for(var module : file.modules.values())
+			{
+				var symbols = result.computeIfAbsent(module.path, p -> new ArrayList<>());
+
+				for(var entry : module.decls.entrySet())
+				{
+					var decl = entry.getValue();
+					var symbol = String.format("%s.%s %s", module.path, entry.getKey(), decl.exportKind);
+
+					if(decl instanceof AstDeclOperator)
+					{
+						var operator = ((AstDeclOperator)decl).operator;
+						symbol += String.format(" %s %s", operator.associativity, operator.precedence);
+					}
+
+					symbols.add(symbol);
+				}
+			}
+
+		return result;
+	}
+
+	// what names in a file resolve to only depends on the symbols in the modules defined in or imported by it
+	public static Map<AstFile, String> ofScopes(AstProgram program)
+	{
+		var symbolsByModule = symbolsByModule(program);
+		var result = new IdentityHashMap<AstFile, String>();
+
+		for(var file : program.files.values())
+		{
+			var symbols = new ArrayList<String>();
+			var paths = new HashSet<AstPath>();
+			paths.addAll(file.modules.keySet());
+			paths.addAll(file.imports.keySet());
+
+			for(var path : paths)
+			{
+				symbols.add("module " + path);
+				symbols.addAll(symbolsByModule.getOrDefault(path, List.of()));
+			}
+
+			for(var import_ : file.renamedImports.values())
+			{
+				symbols.add(String.format("import %s as %s", import_.path, import_.rename));
+				symbols.addAll(symbolsByModule.getOrDefault(import_.path, List.of()));
+			}
+
+			Collections.sort(symbols);
+			result.put(file, Hashing.sha256(String.join("\n", symbols)));
+		}
+
+		return result;
+	}
+}
@@ -15,6 +15,7 @@
 package io.katana.compiler.analysis;
 
 import io.katana.compiler.BuiltinType;
+import io.katana.compiler.backend.PlatformContext;
 import io.katana.compiler.sema.expr.*;
 import io.katana.compiler.sema.type.SemaType;
 
@@ -79,7 +80,7 @@ public class ImplicitConversions
 		return expr;
 	}
 
-	public static SemaExpr perform(SemaExpr expr, SemaType targetType)
+	public static SemaExpr perform(SemaExpr expr, SemaType targetType, PlatformContext context)
 	{
 		var sourceType = expr.type();
 		var rvalueExpr = expr.asRValue();
@@ -91,7 +92,7 @@ public class ImplicitConversions
 		// (u)intN -> (u)intM (widen)
 		if(Types.isFixedSizeInteger(sourceType) && Types.isFixedSizeInteger(targetType)
 		&& Types.isSigned(sourceType) == Types.isSigned(targetType)
-		&& Types.compareSizes(sourceType, targetType, null) == -1)
+		&& Types.compareSizes(sourceType, targetType, context) == -1)
 			return new SemaExprImplicitConversionWiden(rvalueExpr, targetType);
 
 		// null -> ?T
@@ -0,0 +1,94 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.analysis;
+
+import io.katana.compiler.backend.PlatformContext;
+import io.katana.compiler.sema.type.SemaType;
+import io.katana.compiler.sema.type.SemaTypeBuiltin;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// sema types are interned, so the maps are effectively keyed by identity;
+// the computations are not wrapped in computeIfAbsent as they recurse into the same maps
+public class LayoutCache
+{
+	private final PlatformContext context;
+	private final ConcurrentHashMap<SemaType, Long> sizes = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<SemaType, Long> alignments = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<SemaType, Boolean> zeroSized = new ConcurrentHashMap<>();
+	private volatile StructLayout sliceLayout;
+
+	public LayoutCache(PlatformContext context)
+	{
+		this.context = context;
+	}
+
+	public long sizeof(SemaType type)
+	{
+		var size = sizes.get(type);
+
+		if(size == null)
+		{
+			size = TypeSizeofVisitor.apply(type, context);
+			sizes.put(type, size);
+		}
+
+		return size;
+	}
+
+	public long alignof(SemaType type)
+	{
+		var alignment = alignments.get(type);
+
+		if(alignment == null)
+		{
+			alignment = TypeAlignofVisitor.apply(type, context);
+			alignments.put(type, alignment);
+		}
+
+		return alignment;
+	}
+
+	public boolean isZeroSized(SemaType type)
+	{
+		var result = zeroSized.get(type);
+
+		if(result == null)
+		{
+			result = CheckZeroSizeVisitor.apply(type, context);
+			zeroSized.put(type, result);
+		}
+
+		return result;
+	}
+
+	public StructLayout sliceLayout()
+	{
+		var layout = sliceLayout;
+
+		if(layout == null)
+		{
+			var voidptr = Types.addNullablePointer(SemaTypeBuiltin.VOID);
+
+			layout = new StructLayoutBuilder(context).appendField(voidptr)
+			                                         .appendField(SemaTypeBuiltin.INT)
+			                                         .build();
+
+			sliceLayout = layout;
+		}
+
+		return layout;
+	}
+}
@@ -16,6 +16,7 @@ package io.katana.compiler.analysis;
 
 import io.katana.compiler.Inlining;
 import io.katana.compiler.ast.expr.AstExpr;
+import io.katana.compiler.backend.PlatformContext;
 import io.katana.compiler.diag.CompileException;
 import io.katana.compiler.diag.TypeString;
 import io.katana.compiler.sema.decl.SemaDeclFunction;
@@ -29,8 +30,71 @@ import java.util.function.BiFunction;
 
 public class Overloading
 {
-	private static boolean match(SemaDeclFunction function, List<AstExpr> args, List<Maybe<SemaExpr>> result,
-	                             BiFunction<AstExpr, SemaType, SemaExpr> validate)
+	// validation results of a single argument, shared by all overloads;
+	// keyed by parameter type, which is enough to identify them as types are interned
+	private static class Argument
+	{
+		private final AstExpr expr;
+		private final boolean dependsOnExpectedType;
+		private final IdentityHashMap<SemaType, Maybe<SemaExpr>> results = new IdentityHashMap<>();
+
+		// proxies and parens perform the implicit conversions once more on top of their nested expression
+		private final int conversions;
+
+		private Argument(AstExpr expr)
+		{
+			this.expr = expr;
+			this.dependsOnExpectedType = ExprValidator.dependsOnExpectedType(expr);
+
+			var conversions = 1;
+
+			for(var inner = expr; ExprValidator.unwrapTransparent(inner) != inner; inner = ExprValidator.unwrapTransparent(inner))
+				++conversions;
+
+			this.conversions = conversions;
+		}
+	}
+
+	private static SemaExpr convert(SemaExpr expr, SemaType type, int times, PlatformContext context)
+	{
+		for(var i = 0; i != times; ++i)
+			expr = ImplicitConversions.perform(expr, type, context);
+
+		return expr;
+	}
+
+	private static Maybe<SemaExpr> tryValidate(AstExpr expr, SemaType type, BiFunction<AstExpr, SemaType, SemaExpr> validate)
+	{
+		try
+		{
+			return Maybe.some(validate.apply(expr, type));
+		}
+		catch(CompileException ex)
+		{
+			return Maybe.none();
+		}
+	}
+
+	private static Maybe<SemaExpr> validate(Argument arg, SemaType type, BiFunction<AstExpr, SemaType, SemaExpr> validate,
+	                                        PlatformContext context)
+	{
+		var result = arg.results.get(type);
+
+		if(result != null)
+			return result;
+
+		// if the expected type does not matter, validating for it only adds the implicit conversions
+		if(type == null || arg.dependsOnExpectedType)
+			result = tryValidate(arg.expr, type, validate);
+		else
+			result = validate(arg, null, validate, context).map(e -> convert(e, type, arg.conversions, context));
+
+		arg.results.put(type, result);
+		return result;
+	}
+
+	private static boolean match(SemaDeclFunction function, List<Argument> args, List<Maybe<SemaExpr>> result,
+	                             BiFunction<AstExpr, SemaType, SemaExpr> validate, PlatformContext context)
 	{
 		var failed = false;
 
@@ -38,38 +102,24 @@ public class Overloading
 		{
 			var paramType = function.fixedParams.get(i).type;
 			var paramTypeNoConst = Types.removeConst(paramType);
+			var arg = validate(args.get(i), paramTypeNoConst, validate, context);
 
-			try
-			{
-				var arg = validate.apply(args.get(i), paramTypeNoConst);
-				var argTypeNoConst = Types.removeConst(arg.type());
-
-				if(!Types.equal(paramTypeNoConst, argTypeNoConst))
-					failed = true;
-
-				result.add(Maybe.some(arg));
-			}
-			catch(CompileException e)
-			{
+			if(arg.isNone() || !Types.equal(paramTypeNoConst, Types.removeConst(arg.unwrap().type())))
 				failed = true;
-				result.add(Maybe.none());
-			}
+
+			result.add(arg);
 		}
 
 		if(function.isVariadic)
 		{
 			for(var i = function.fixedParams.size(); i != args.size(); ++i)
 			{
-				try
-				{
-					var arg = validate.apply(args.get(i), null);
-					result.add(Maybe.some(arg));
-				}
-				catch(CompileException ex)
-				{
+				var arg = validate(args.get(i), null, validate, context);
+
+				if(arg.isNone())
 					failed = true;
-					result.add(Maybe.none());
-				}
+
+				result.add(arg);
 			}
 		}
 
@@ -163,8 +213,13 @@ public class Overloading
 	}
 
 	public static SemaExpr resolve(List<SemaDeclFunction> set, String name, List<AstExpr> args, Inlining inline,
-	                               BiFunction<AstExpr, SemaType, SemaExpr> validate)
+	                               BiFunction<AstExpr, SemaType, SemaExpr> validate, PlatformContext context)
 	{
+		var arguments = new ArrayList<Argument>();
+
+		for(var arg : args)
+			arguments.add(new Argument(arg));
+
 		var candidates = new IdentityHashMap<SemaDeclFunction, List<Maybe<SemaExpr>>>();
 		var failed = new IdentityHashMap<SemaDeclFunction, List<Maybe<SemaExpr>>>();
 		var other = Collections.newSetFromMap(new IdentityHashMap<SemaDeclFunction, Boolean>());
@@ -179,7 +234,7 @@ public class Overloading
 
 			var semaArgs = new ArrayList<Maybe<SemaExpr>>();
 
-			if(match(overload, args, semaArgs, validate))
+			if(match(overload, arguments, semaArgs, validate, context))
 				candidates.put(overload, semaArgs);
 			else
 				failed.put(overload, semaArgs);
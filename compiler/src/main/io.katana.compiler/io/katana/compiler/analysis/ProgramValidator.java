@@ -18,22 +18,22 @@ import io.katana.compiler.ExportKind;
 import io.katana.compiler.ast.AstFile;
 import io.katana.compiler.ast.AstPath;
 import io.katana.compiler.ast.AstProgram;
-import io.katana.compiler.ast.decl.AstDeclImport;
-import io.katana.compiler.ast.decl.AstDeclOperator;
-import io.katana.compiler.ast.decl.AstDeclRenamedImport;
+import io.katana.compiler.ast.decl.*;
 import io.katana.compiler.backend.PlatformContext;
 import io.katana.compiler.diag.CompileException;
+import io.katana.compiler.incremental.IncrementalState;
 import io.katana.compiler.op.BuiltinOps;
 import io.katana.compiler.op.OperatorParser;
 import io.katana.compiler.sema.SemaModule;
 import io.katana.compiler.sema.SemaProgram;
 import io.katana.compiler.sema.decl.*;
 import io.katana.compiler.sema.scope.SemaScopeFile;
+import io.katana.compiler.utils.Futures;
+import io.katana.compiler.utils.Maybe;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.IdentityHashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class ProgramValidator
 {
@@ -123,28 +123,12 @@ public class ProgramValidator
 	private static void validateFileImports(AstFile file, SemaScopeFile scope, SemaProgram program)
 	{
 		for(var import_ : file.imports.values())
-		{
-			var module = checkImportedPath(import_, program);
-
-			for(var decl : module.decls().values())
-				if(decl instanceof SemaDeclOverloadSet)
-					scope.defineSymbol(new SemaDeclImportedOverloadSet((SemaDeclOverloadSet)decl));
-				else if(decl.exportKind != ExportKind.HIDDEN && !(decl instanceof SemaDeclOperator))
-					scope.defineSymbol(decl);
-		}
+			scope.importModule(checkImportedPath(import_, program));
 
 		for(AstDeclRenamedImport import_ : file.renamedImports.values())
 		{
 			var module = checkImportedPath(import_, program);
-			var semaImport = new SemaDeclRenamedImport(module, import_.rename);
-
-			for(var decl : module.decls().values())
-				if(decl instanceof SemaDeclOverloadSet)
-					semaImport.decls.put(decl.name(), new SemaDeclImportedOverloadSet((SemaDeclOverloadSet)decl));
-				else if(decl.exportKind != ExportKind.HIDDEN)
-					semaImport.decls.put(decl.name(), decl);
-
-			scope.defineSymbol(semaImport);
+			scope.defineSymbol(new SemaDeclRenamedImport(module, import_.rename));
 		}
 	}
 
@@ -175,7 +159,40 @@ public class ProgramValidator
 		}
 	}
 
-	public static SemaProgram validate(AstProgram program, PlatformContext context)
+	private static void fingerprintDecl(DeclInfo info, String scopeFingerprint)
+	{
+		info.sourceFingerprint = Fingerprints.ofInterface(info.astDecl);
+
+		if(!(info.astDecl instanceof AstDeclOverloadSet))
+			return;
+
+		info.definitionFingerprints = new ArrayList<>();
+
+		for(var overload : ((AstDeclOverloadSet)info.astDecl).overloads)
+			if(overload instanceof AstDeclFunctionDef)
+				info.definitionFingerprints.add(Fingerprints.ofDefinition((AstDeclFunctionDef)overload, scopeFingerprint));
+			else
+				info.definitionFingerprints.add(null);
+	}
+
+	private static void fingerprintDecls(AstProgram program, IdentityHashMap<AstFile, SemaScopeFile> scopes,
+	                                     IdentityHashMap<SemaDecl, DeclInfo> decls, ExecutorService executor)
+	{
+		var scopeFingerprints = new IdentityHashMap<SemaScopeFile, String>();
+
+		for(var entry : Fingerprints.ofScopes(program).entrySet())
+			scopeFingerprints.put(scopes.get(entry.getKey()), entry.getValue());
+
+		var futures = new ArrayList<Future<?>>();
+
+		for(var info : decls.values())
+			futures.add(executor.submit(() -> fingerprintDecl(info, scopeFingerprints.get(info.scope))));
+
+		for(var future : futures)
+			Futures.join(future);
+	}
+
+	public static SemaProgram validate(AstProgram program, PlatformContext context, ExecutorService executor, Maybe<IncrementalState> incremental)
 	{
 		var semaProgram = new SemaProgram();
 
@@ -184,12 +201,17 @@ public class ProgramValidator
 		propagateOperatorDecls(scopes, operators);
 
 		var decls = registerDecls(semaProgram, scopes);
+
+		// has to happen before operators are parsed, see Fingerprints
+		if(incremental.isSome())
+			fingerprintDecls(program, scopes, decls, executor);
+
 		validateImports(semaProgram, scopes);
 		registerBuiltinOps(scopes.values());
 		parseOperators(scopes);
 
-		DeclDepResolver.process(decls, context);
-		DeclImplValidator.validate(decls, context);
+		DeclDepResolver.process(decls, context, executor);
+		DeclImplValidator.validate(decls, context, executor, incremental);
 
 		return semaProgram;
 	}
@@ -87,7 +87,7 @@ public class StmtValidator extends IVisitor<SemaStmt>
 		}
 	}
 
-	private SemaStmt visit(AstStmtCompound compound)
+	SemaStmt visit(AstStmtCompound compound)
 	{
 		var semaCompound = new SemaStmtCompound();
 
@@ -97,7 +97,7 @@ public class StmtValidator extends IVisitor<SemaStmt>
 		return semaCompound;
 	}
 
-	private SemaStmt visit(AstStmtLabel label)
+	SemaStmt visit(AstStmtLabel label)
 	{
 		var semaLabel = new SemaStmtLabel(label.name);
 
@@ -107,7 +107,7 @@ public class StmtValidator extends IVisitor<SemaStmt>
 		return semaLabel;
 	}
 
-	private SemaStmt visit(AstStmtGoto goto_)
+	SemaStmt visit(AstStmtGoto goto_)
 	{
 		var semaGoto = new SemaStmtGoto(null);
 		gotos.put(semaGoto, goto_.targetLabelName);
@@ -134,30 +134,30 @@ public class StmtValidator extends IVisitor<SemaStmt>
 		return condition;
 	}
 
-	private SemaStmt visit(AstStmtIf if_)
+	SemaStmt visit(AstStmtIf if_)
 	{
 		var condition = validateCondition(if_.conditionExpr, ConditionKind.IF);
 		return new SemaStmtIf(if_.negated, condition, validate(if_.thenStmt));
 	}
 
-	private SemaStmt visit(AstStmtIfElse ifelse)
+	SemaStmt visit(AstStmtIfElse ifelse)
 	{
 		var condition = validateCondition(ifelse.conditionExpr, ConditionKind.IF);
 		return new SemaStmtIfElse(ifelse.negated, condition, validate(ifelse.thenStmt), validate(ifelse.elseStmt));
 	}
 
-	private SemaStmt visit(AstStmtLoop loop)
+	SemaStmt visit(AstStmtLoop loop)
 	{
 		return new SemaStmtLoop(validate(loop.bodyStmt));
 	}
 
-	private SemaStmt visit(AstStmtWhile while_)
+	SemaStmt visit(AstStmtWhile while_)
 	{
 		var condition = validateCondition(while_.conditionExpr, ConditionKind.WHILE);
 		return new SemaStmtWhile(while_.negated, condition, validate(while_.bodyStmt));
 	}
 
-	private SemaStmt visit(AstStmtReturn return_)
+	SemaStmt visit(AstStmtReturn return_)
 	{
 		var value = return_.returnValueExpr.map(retval -> validate(retval, function.returnType).asRValue());
 		var retTypeNoConst = Types.removeConst(function.returnType);
@@ -183,12 +183,12 @@ public class StmtValidator extends IVisitor<SemaStmt>
 		return new SemaStmtReturn(value);
 	}
 
-	private SemaStmt visit(AstStmtExprStmt exprStmt)
+	SemaStmt visit(AstStmtExprStmt exprStmt)
 	{
 		return new SemaStmtExprStmt(validate(exprStmt.nestedExpr));
 	}
 
-	private SemaStmt visit(AstStmtVar var_)
+	SemaStmt visit(AstStmtVar var_)
 	{
 		var maybeDeclaredType = var_.type.map(this::validate);
 		var maybeDeclaredTypeNoConst = maybeDeclaredType.map(Types::removeConst);
@@ -223,7 +223,7 @@ public class StmtValidator extends IVisitor<SemaStmt>
 		return new SemaStmtExprStmt(new SemaExprAssign(varRef, init));
 	}
 
-	private SemaStmt visit(AstStmtUnreachable unreachable)
+	SemaStmt visit(AstStmtUnreachable unreachable)
 	{
 		return SemaStmtUnreachable.INSTANCE;
 	}
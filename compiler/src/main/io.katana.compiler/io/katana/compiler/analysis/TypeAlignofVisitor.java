@@ -29,17 +29,17 @@ public class TypeAlignofVisitor extends IVisitor<Long>
 		this.context = context;
 	}
 
-	private long visit(SemaTypeSlice sliceType)
+	long visit(SemaTypeSlice sliceType)
 	{
 		return Types.sliceLayout(context).alignof();
 	}
 
-	private long visit(SemaTypeArray arrayType)
+	long visit(SemaTypeArray arrayType)
 	{
-		return apply(arrayType.elementType, context);
+		return Types.alignof(arrayType.elementType, context);
 	}
 
-	private long visit(SemaTypeBuiltin builtinType)
+	long visit(SemaTypeBuiltin builtinType)
 	{
 		var arch = context.target().arch;
 
@@ -58,32 +58,32 @@ public class TypeAlignofVisitor extends IVisitor<Long>
 		};
 	}
 
-	private long visit(SemaTypeConst constType)
+	long visit(SemaTypeConst constType)
 	{
-		return apply(constType.nestedType, context);
+		return Types.alignof(constType.nestedType, context);
 	}
 
-	private long visit(SemaTypeFunction functionType)
+	long visit(SemaTypeFunction functionType)
 	{
 		throw new CompileException("'alignof' applied to function type");
 	}
 
-	private long visit(SemaTypeNullablePointer pointerType)
+	long visit(SemaTypeNullablePointer pointerType)
 	{
 		return context.target().arch.pointerAlign;
 	}
 
-	private long visit(SemaTypeNonNullablePointer pointerType)
+	long visit(SemaTypeNonNullablePointer pointerType)
 	{
 		return context.target().arch.pointerAlign;
 	}
 
-	private long visit(SemaTypeTuple tuple)
+	long visit(SemaTypeTuple tuple)
 	{
 		return tuple.layout.alignof();
 	}
 
-	private long visit(SemaTypeStruct userDefinedType)
+	long visit(SemaTypeStruct userDefinedType)
 	{
 		return userDefinedType.decl.layout.alignof();
 	}
@@ -29,17 +29,17 @@ public class TypeSizeofVisitor extends IVisitor<Long>
 		this.context = context;
 	}
 
-	private long visit(SemaTypeSlice sliceType)
+	long visit(SemaTypeSlice sliceType)
 	{
 		return Types.sliceLayout(context).sizeof();
 	}
 
-	private long visit(SemaTypeArray arrayType)
+	long visit(SemaTypeArray arrayType)
 	{
-		return arrayType.length * apply(arrayType.elementType, context);
+		return arrayType.length * Types.sizeof(arrayType.elementType, context);
 	}
 
-	private long visit(SemaTypeBuiltin builtinType)
+	long visit(SemaTypeBuiltin builtinType)
 	{
 		return switch(builtinType.which)
 		{
@@ -54,32 +54,32 @@ public class TypeSizeofVisitor extends IVisitor<Long>
 		};
 	}
 
-	private long visit(SemaTypeConst constType)
+	long visit(SemaTypeConst constType)
 	{
-		return apply(constType.nestedType, context);
+		return Types.sizeof(constType.nestedType, context);
 	}
 
-	private long visit(SemaTypeFunction functionType)
+	long visit(SemaTypeFunction functionType)
 	{
 		throw new CompileException("'sizeof' applied to function type");
 	}
 
-	private long visit(SemaTypeNullablePointer pointerType)
+	long visit(SemaTypeNullablePointer pointerType)
 	{
 		return context.target().arch.pointerSize;
 	}
 
-	private long visit(SemaTypeNonNullablePointer pointerType)
+	long visit(SemaTypeNonNullablePointer pointerType)
 	{
 		return context.target().arch.pointerSize;
 	}
 
-	private long visit(SemaTypeTuple tuple)
+	long visit(SemaTypeTuple tuple)
 	{
 		return tuple.layout.sizeof();
 	}
 
-	private long visit(SemaTypeStruct userDefinedType)
+	long visit(SemaTypeStruct userDefinedType)
 	{
 		return userDefinedType.decl.layout.sizeof();
 	}
@@ -54,32 +54,27 @@ public class TypeValidator extends IVisitor<SemaType>
 		return invokeSelf(type);
 	}
 
-	private SemaType visit(AstTypeBuiltin builtin)
+	SemaType visit(AstTypeBuiltin builtin)
 	{
 		return SemaTypeBuiltin.of(builtin.which);
 	}
 
-	private SemaType visit(AstTypeTuple tuple)
+	SemaType visit(AstTypeTuple tuple)
 	{
-		var builder = new StructLayoutBuilder(context);
 		var types = new ArrayList<SemaType>();
 
 		for(var type : tuple.fieldTypes)
-		{
-			var semaType = validate(type);
-			types.add(semaType);
-			builder.appendField(semaType);
-		}
+			types.add(validate(type));
 
-		return new SemaTypeTuple(types, builder.build());
+		return SemaTypeTuple.of(types, context);
 	}
 
-	private SemaType visit(AstTypeSlice slice)
+	SemaType visit(AstTypeSlice slice)
 	{
 		return Types.addSlice(validate(slice.elementType));
 	}
 
-	private SemaType visit(AstTypeArray array)
+	SemaType visit(AstTypeArray array)
 	{
 		if(array.length < 0)
 			throw new CompileException(String.format("negative array length: %s", array.length));
@@ -87,18 +82,17 @@ public class TypeValidator extends IVisitor<SemaType>
 		return Types.addArray(array.length, validate(array.elementType));
 	}
 
-	private SemaType visit(AstTypeFunction functionType)
+	SemaType visit(AstTypeFunction functionType)
 	{
 		var fixedParamTypes = functionType.params.fixedParamTypes.stream()
 		                                                         .map(this::validate)
 		                                                         .collect(Collectors.toList());
 
 		var returnType = functionType.returnType.map(this::validate).or(SemaTypeBuiltin.VOID);
-		var params = new SemaTypeFunction.ParamList(fixedParamTypes, functionType.params.isVariadic);
-		return new SemaTypeFunction(params, returnType);
+		return SemaTypeFunction.of(fixedParamTypes, functionType.params.isVariadic, returnType);
 	}
 
-	private SemaType visit(AstTypeUserDefined user)
+	SemaType visit(AstTypeUserDefined user)
 	{
 		var candidates = scope.find(user.name);
 
@@ -117,12 +111,12 @@ public class TypeValidator extends IVisitor<SemaType>
 			return ((SemaDeclTypeAlias)symbol).aliasedType;
 
 		if(symbol instanceof SemaDeclStruct)
-			return new SemaTypeStruct((SemaDeclStruct)symbol);
+			return SemaTypeStruct.of((SemaDeclStruct)symbol);
 
 		throw new CompileException(String.format("symbol '%s' does not refer to a type", symbol.name()));
 	}
 
-	private SemaType visit(AstTypeConst const_)
+	SemaType visit(AstTypeConst const_)
 	{
 		var type = validate(const_.nestedType);
 
@@ -132,7 +126,7 @@ public class TypeValidator extends IVisitor<SemaType>
 		return Types.addConst(type);
 	}
 
-	private SemaType visit(AstTypeTypeof typeof)
+	SemaType visit(AstTypeTypeof typeof)
 	{
 		if(scope == null)
 			throw new CompileException("'typeof' is not valid in this context");
@@ -141,12 +135,12 @@ public class TypeValidator extends IVisitor<SemaType>
 		return expr.type();
 	}
 
-	private SemaType visit(AstTypeNullablePointer pointer)
+	SemaType visit(AstTypeNullablePointer pointer)
 	{
 		return Types.addNullablePointer(validate(pointer.pointeeType));
 	}
 
-	private SemaType visit(AstTypeNonNullablePointer pointer)
+	SemaType visit(AstTypeNonNullablePointer pointer)
 	{
 		return Types.addNonNullablePointer(validate(pointer.pointeeType));
 	}
@@ -23,7 +23,8 @@ public class Types
 {
 	public static boolean equal(SemaType left, SemaType right)
 	{
-		return TypesEqualVisitor.apply(left, right);
+		// types are interned, see the factories in sema.type
+		return left == right;
 	}
 
 	public static boolean isConst(SemaType type)
@@ -36,12 +37,12 @@ public class Types
 
 	public static SemaType addNullablePointer(SemaType pointeeType)
 	{
-		return new SemaTypeNullablePointer(pointeeType);
+		return SemaTypeNullablePointer.of(pointeeType);
 	}
 
 	public static SemaType addNonNullablePointer(SemaType pointeeType)
 	{
-		return new SemaTypeNonNullablePointer(pointeeType);
+		return SemaTypeNonNullablePointer.of(pointeeType);
 	}
 
 	public static SemaType copyPointerKind(SemaType sourceType, SemaType pointeeType)
@@ -74,12 +75,12 @@ public class Types
 			return addArray(array.length, addConst(array.elementType));
 		}
 
-		return new SemaTypeConst(type);
+		return SemaTypeConst.of(type);
 	}
 
 	public static SemaType addSlice(SemaType type)
 	{
-		return new SemaTypeSlice(type);
+		return SemaTypeSlice.of(type);
 	}
 
 	public static SemaType removeSlice(SemaType type)
@@ -94,7 +95,7 @@ public class Types
 
 	public static SemaType addArray(long length, SemaType type)
 	{
-		return new SemaTypeArray(length, type);
+		return SemaTypeArray.of(length, type);
 	}
 
 	public static SemaType removeArray(SemaType type)
@@ -241,27 +242,23 @@ public class Types
 		return struct.layout.sizeof() == 0;
 	}
 
-	public static boolean isZeroSized(SemaType type)
+	public static boolean isZeroSized(SemaType type, PlatformContext context)
 	{
-		return CheckZeroSizeVisitor.apply(type);
+		return context.layouts().isZeroSized(type);
 	}
 
 	public static long sizeof(SemaType type, PlatformContext context)
 	{
-		return TypeSizeofVisitor.apply(type, context);
+		return context.layouts().sizeof(type);
 	}
 
 	public static long alignof(SemaType type, PlatformContext context)
 	{
-		return TypeAlignofVisitor.apply(type, context);
+		return context.layouts().alignof(type);
 	}
 
 	public static StructLayout sliceLayout(PlatformContext context)
 	{
-		var voidptr = addNullablePointer(SemaTypeBuiltin.VOID);
-
-		return new StructLayoutBuilder(context).appendField(voidptr)
-		                                       .appendField(SemaTypeBuiltin.INT)
-		                                       .build();
+		return context.layouts().sliceLayout();
 	}
 }
@@ -17,10 +17,11 @@ package io.katana.compiler.ast;
 import io.katana.compiler.ast.decl.AstDeclImport;
 import io.katana.compiler.ast.decl.AstDeclRenamedImport;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
-public class AstFile
+public class AstFile implements Serializable
 {
 	public final Map<AstPath, AstDeclImport> imports = new HashMap<>();
 	public final Map<String, AstDeclRenamedImport> renamedImports = new HashMap<>();
@@ -16,10 +16,11 @@ package io.katana.compiler.ast;
 
 import io.katana.compiler.ast.decl.AstDecl;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
-public class AstModule
+public class AstModule implements Serializable
 {
 	public AstPath path;
 	public Map<String, AstDecl> decls = new HashMap<>();
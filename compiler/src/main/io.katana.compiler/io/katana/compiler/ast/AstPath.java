@@ -14,11 +14,12 @@
 
 package io.katana.compiler.ast;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-public class AstPath
+public class AstPath implements Serializable
 {
 	public List<String> components;
 
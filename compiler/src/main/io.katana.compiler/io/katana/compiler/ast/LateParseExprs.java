@@ -14,35 +14,77 @@
 
 package io.katana.compiler.ast;
 
-import io.katana.compiler.ast.expr.AstExpr;
 import io.katana.compiler.ast.expr.AstExprOpInfixList;
 import io.katana.compiler.ast.expr.AstExprOpPostfixSeq;
 import io.katana.compiler.ast.expr.AstExprOpPrefixSeq;
+import io.katana.compiler.ast.expr.AstExprProxy;
 
-import java.util.IdentityHashMap;
-import java.util.function.Consumer;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
-public class LateParseExprs implements Cloneable
+// append-only, so that the parser can backtrack by truncating to a mark
+public class LateParseExprs implements Serializable
 {
-	public IdentityHashMap<AstExprOpPrefixSeq, Consumer<AstExpr>> prefixSeqs = new IdentityHashMap<>();
-	public IdentityHashMap<AstExprOpInfixList, Consumer<AstExpr>> infixLists = new IdentityHashMap<>();
-	public IdentityHashMap<AstExprOpPostfixSeq, Consumer<AstExpr>> postfixSeqs = new IdentityHashMap<>();
+	public static class Entry<T> implements Serializable
+	{
+		public final T expr;
+		public final AstExprProxy proxy;
+
+		private Entry(T expr, AstExprProxy proxy)
+		{
+			this.expr = expr;
+			this.proxy = proxy;
+		}
+	}
+
+	public static class Mark
+	{
+		private final int prefixSeqs;
+		private final int infixLists;
+		private final int postfixSeqs;
 
-	public LateParseExprs()
-	{}
+		private Mark(int prefixSeqs, int infixLists, int postfixSeqs)
+		{
+			this.prefixSeqs = prefixSeqs;
+			this.infixLists = infixLists;
+			this.postfixSeqs = postfixSeqs;
+		}
+	}
+
+	public final List<Entry<AstExprOpPrefixSeq>> prefixSeqs = new ArrayList<>();
+	public final List<Entry<AstExprOpInfixList>> infixLists = new ArrayList<>();
+	public final List<Entry<AstExprOpPostfixSeq>> postfixSeqs = new ArrayList<>();
+
+	public void add(AstExprOpPrefixSeq seq, AstExprProxy proxy)
+	{
+		prefixSeqs.add(new Entry<>(seq, proxy));
+	}
+
+	public void add(AstExprOpInfixList list, AstExprProxy proxy)
+	{
+		infixLists.add(new Entry<>(list, proxy));
+	}
+
+	public void add(AstExprOpPostfixSeq seq, AstExprProxy proxy)
+	{
+		postfixSeqs.add(new Entry<>(seq, proxy));
+	}
+
+	public Mark mark()
+	{
+		return new Mark(prefixSeqs.size(), infixLists.size(), postfixSeqs.size());
+	}
 
-	private LateParseExprs(IdentityHashMap<AstExprOpPrefixSeq, Consumer<AstExpr>> prefixSeqs,
-	                       IdentityHashMap<AstExprOpInfixList, Consumer<AstExpr>> infixLists,
-	                       IdentityHashMap<AstExprOpPostfixSeq, Consumer<AstExpr>> postfixSeqs)
+	public void rewind(Mark mark)
 	{
-		this.prefixSeqs = prefixSeqs;
-		this.infixLists = infixLists;
-		this.postfixSeqs = postfixSeqs;
+		truncate(prefixSeqs, mark.prefixSeqs);
+		truncate(infixLists, mark.infixLists);
+		truncate(postfixSeqs, mark.postfixSeqs);
 	}
 
-	@Override
-	public LateParseExprs clone()
+	private static void truncate(List<?> list, int size)
 	{
-		return new LateParseExprs(new IdentityHashMap<>(prefixSeqs), new IdentityHashMap<>(infixLists), new IdentityHashMap<>(postfixSeqs));
+		list.subList(size, list.size()).clear();
 	}
 }
@@ -16,7 +16,9 @@ package io.katana.compiler.ast.decl;
 
 import io.katana.compiler.ExportKind;
 
-public abstract class AstDecl
+import java.io.Serializable;
+
+public abstract class AstDecl implements Serializable
 {
 	public ExportKind exportKind;
 
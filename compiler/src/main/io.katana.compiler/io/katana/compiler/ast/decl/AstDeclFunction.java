@@ -18,11 +18,12 @@ import io.katana.compiler.ExportKind;
 import io.katana.compiler.ast.type.AstType;
 import io.katana.compiler.utils.Maybe;
 
+import java.io.Serializable;
 import java.util.List;
 
 public class AstDeclFunction extends AstDecl
 {
-	public static class Param
+	public static class Param implements Serializable
 	{
 		public AstType type;
 		public String name;
@@ -34,7 +35,7 @@ public class AstDeclFunction extends AstDecl
 		}
 	}
 
-	public static class ParamList
+	public static class ParamList implements Serializable
 	{
 		public List<Param> fixedParams;
 		public boolean isVariadic;
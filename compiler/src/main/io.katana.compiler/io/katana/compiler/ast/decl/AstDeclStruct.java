@@ -17,11 +17,12 @@ package io.katana.compiler.ast.decl;
 import io.katana.compiler.ExportKind;
 import io.katana.compiler.ast.type.AstType;
 
+import java.io.Serializable;
 import java.util.List;
 
 public class AstDeclStruct extends AstDecl
 {
-	public static class Field
+	public static class Field implements Serializable
 	{
 		public AstType type;
 		public String name;
@@ -14,6 +14,8 @@
 
 package io.katana.compiler.ast.expr;
 
-public abstract class AstExpr
+import java.io.Serializable;
+
+public abstract class AstExpr implements Serializable
 {
 }
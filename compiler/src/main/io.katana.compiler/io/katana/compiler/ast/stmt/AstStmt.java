@@ -14,7 +14,9 @@
 
 package io.katana.compiler.ast.stmt;
 
-public abstract class AstStmt
+import java.io.Serializable;
+
+public abstract class AstStmt implements Serializable
 {
 	@Override
 	public String toString()
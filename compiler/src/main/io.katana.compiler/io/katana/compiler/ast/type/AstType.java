@@ -14,6 +14,8 @@
 
 package io.katana.compiler.ast.type;
 
-public abstract class AstType
+import java.io.Serializable;
+
+public abstract class AstType implements Serializable
 {
 }
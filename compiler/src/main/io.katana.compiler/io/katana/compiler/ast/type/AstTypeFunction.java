@@ -16,11 +16,12 @@ package io.katana.compiler.ast.type;
 
 import io.katana.compiler.utils.Maybe;
 
+import java.io.Serializable;
 import java.util.List;
 
 public class AstTypeFunction extends AstType
 {
-	public static class ParamList
+	public static class ParamList implements Serializable
 	{
 		public List<AstType> fixedParamTypes;
 		public boolean isVariadic;
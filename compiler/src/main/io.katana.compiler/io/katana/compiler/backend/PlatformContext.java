@@ -14,17 +14,24 @@
 
 package io.katana.compiler.backend;
 
+import io.katana.compiler.analysis.LayoutCache;
 import io.katana.compiler.platform.TargetTriple;
 
 public class PlatformContext
 {
 	private final TargetTriple triple;
+	private final LayoutCache layouts = new LayoutCache(this);
 
 	public PlatformContext(TargetTriple triple)
 	{
 		this.triple = triple;
 	}
 
+	public LayoutCache layouts()
+	{
+		return layouts;
+	}
+
 	public TargetTriple target()
 	{
 		return triple;
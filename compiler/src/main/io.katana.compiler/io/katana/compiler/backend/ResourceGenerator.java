@@ -26,11 +26,13 @@ public class ResourceGenerator
 {
 	private final StringBuilder builder = new StringBuilder();
 	private final TargetTriple target;
+	private final Path root;
 	private final Map<String, Path> resources;
 
-	private ResourceGenerator(TargetTriple target, Map<String, Path> resources)
+	private ResourceGenerator(TargetTriple target, Path root, Map<String, Path> resources)
 	{
 		this.target = target;
+		this.root = root;
 		this.resources = resources;
 	}
 
@@ -109,7 +111,7 @@ public class ResourceGenerator
 		{
 			generateInt("%s", entry.getKey().length());
 			generateInt("key%s", i);
-			generateInt("%s", entry.getValue().toFile().length());
+			generateInt("%s", root.resolve(entry.getValue()).toFile().length());
 			generateInt("res%s", i);
 
 			++i;
@@ -137,9 +139,10 @@ public class ResourceGenerator
 		return builder.toString();
 	}
 
-	public static void generate(TargetTriple target, Map<String, Path> resources, Path outputPath) throws IOException
+	// resource paths are relative to the root, which is also the directory the assembler runs in
+	public static void generate(TargetTriple target, Path root, Map<String, Path> resources, Path outputPath) throws IOException
 	{
-		var generator = new ResourceGenerator(target, resources);
+		var generator = new ResourceGenerator(target, root, resources);
 		FileUtils.writeFile(generator.generate(), outputPath);
 	}
 }
@@ -29,47 +29,47 @@ public class TypeNameMangling extends IVisitor<String>
 		return INSTANCE.invokeSelf(type);
 	}
 
-	private String visit(SemaTypeSlice slice)
+	String visit(SemaTypeSlice slice)
 	{
 		return String.format("slice-%s", of(slice.elementType));
 	}
 
-	private String visit(SemaTypeArray array)
+	String visit(SemaTypeArray array)
 	{
 		return String.format("array-%s-%s", array.length, of(array.elementType));
 	}
 
-	private String visit(SemaTypeBuiltin builtin)
+	String visit(SemaTypeBuiltin builtin)
 	{
 		return builtin.which.toString().toLowerCase();
 	}
 
-	private String visit(SemaTypeConst const_)
+	String visit(SemaTypeConst const_)
 	{
 		return String.format("const-%s", of(const_.nestedType));
 	}
 
-	private String visit(SemaTypeFunction function)
+	String visit(SemaTypeFunction function)
 	{
 		throw new AssertionError("unreachable");
 	}
 
-	private String visit(SemaTypeNonNullablePointer pointer)
+	String visit(SemaTypeNonNullablePointer pointer)
 	{
 		return String.format("pointer-%s", of(pointer.pointeeType));
 	}
 
-	private String visit(SemaTypeNullablePointer pointer)
+	String visit(SemaTypeNullablePointer pointer)
 	{
 		return String.format("npointer-%s", of(pointer.pointeeType));
 	}
 
-	private String visit(SemaTypeStruct user)
+	String visit(SemaTypeStruct user)
 	{
 		return user.decl.qualifiedName().toString();
 	}
 
-	private String visit(SemaTypeTuple tuple)
+	String visit(SemaTypeTuple tuple)
 	{
 		var builder = new StringBuilder();
 		builder.append("tuple-");
@@ -16,19 +16,31 @@ package io.katana.compiler.backend.llvm;
 
 import io.katana.compiler.backend.PlatformContext;
 import io.katana.compiler.backend.llvm.codegen.StringPool;
+import io.katana.compiler.incremental.IncrementalState;
 import io.katana.compiler.project.BuildTarget;
+import io.katana.compiler.utils.Maybe;
 
 public class FileCodegenContext
 {
 	private final BuildTarget build;
 	private final PlatformContext platform;
 	private final StringPool stringPool;
+	private final Partitioning partitioning;
+	private final Maybe<IncrementalState> incremental;
 
-	public FileCodegenContext(BuildTarget build, PlatformContext platform, StringPool stringPool)
+	public FileCodegenContext(BuildTarget build, PlatformContext platform, StringPool stringPool, Partitioning partitioning,
+	                          Maybe<IncrementalState> incremental)
 	{
 		this.build = build;
 		this.platform = platform;
 		this.stringPool = stringPool;
+		this.partitioning = partitioning;
+		this.incremental = incremental;
+	}
+
+	public FileCodegenContext withStringPool(StringPool stringPool)
+	{
+		return new FileCodegenContext(build, platform, stringPool, partitioning, incremental);
 	}
 
 	public BuildTarget build()
@@ -45,4 +57,14 @@ public class FileCodegenContext
 	{
 		return stringPool;
 	}
+
+	public Partitioning partitioning()
+	{
+		return partitioning;
+	}
+
+	public Maybe<IncrementalState> incremental()
+	{
+		return incremental;
+	}
 }
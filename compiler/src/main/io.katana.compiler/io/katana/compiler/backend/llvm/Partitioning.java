@@ -0,0 +1,82 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.backend.llvm;
+
+import io.katana.compiler.diag.CompileException;
+
+public class Partitioning
+{
+	public enum Kind
+	{
+		NONE,
+		MODULE,
+		BALANCED,
+	}
+
+	public static final Partitioning NONE = new Partitioning(Kind.NONE, 1);
+	public static final Partitioning MODULE = new Partitioning(Kind.MODULE, 0);
+
+	public final Kind kind;
+	public final int count;
+
+	private Partitioning(Kind kind, int count)
+	{
+		this.kind = kind;
+		this.count = count;
+	}
+
+	public static Partitioning balanced(int count)
+	{
+		if(count < 1)
+			throw new CompileException(String.format("invalid partition count %s", count));
+
+		return count == 1 ? NONE : new Partitioning(Kind.BALANCED, count);
+	}
+
+	public static Partitioning parse(String value)
+	{
+		switch(value)
+		{
+		case "none":   return NONE;
+		case "module": return MODULE;
+		default: break;
+		}
+
+		try
+		{
+			return balanced(Integer.parseInt(value));
+		}
+		catch(NumberFormatException ex)
+		{
+			throw new CompileException(String.format("invalid partitioning '%s', expected 'none', 'module' or a partition count", value));
+		}
+	}
+
+	public boolean isPartitioned()
+	{
+		return kind != Kind.NONE;
+	}
+
+	@Override
+	public String toString()
+	{
+		return switch(kind)
+		{
+		case NONE     -> "none";
+		case MODULE   -> "module";
+		case BALANCED -> "" + count;
+		};
+	}
+}
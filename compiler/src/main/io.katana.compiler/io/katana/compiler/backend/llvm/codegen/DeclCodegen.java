@@ -25,16 +25,19 @@ import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 import io.katana.compiler.backend.llvm.ir.value.IrValueConstant;
 import io.katana.compiler.backend.llvm.ir.value.IrValues;
+import io.katana.compiler.incremental.FunctionRecord;
 import io.katana.compiler.project.BuildType;
 import io.katana.compiler.sema.decl.*;
 import io.katana.compiler.sema.expr.SemaExpr;
 import io.katana.compiler.sema.type.SemaType;
 import io.katana.compiler.utils.Maybe;
 import io.katana.compiler.visitor.IVisitor;
+import io.katana.compiler.visitor.PartialVisitor;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
+@PartialVisitor
 @SuppressWarnings("unused")
 public class DeclCodegen extends IVisitor<Void>
 {
@@ -68,7 +71,7 @@ public class DeclCodegen extends IVisitor<Void>
 		return modulePath.toString() + "." + decl.name();
 	}
 
-	private void visit(SemaDeclStruct struct)
+	void visit(SemaDeclStruct struct)
 	{
 		if(Types.isZeroSized(struct))
 			return;
@@ -77,7 +80,7 @@ public class DeclCodegen extends IVisitor<Void>
 
 		var fields = struct.fieldsByIndex().stream()
 		                                   .map(f -> f.type)
-		                                   .filter(t -> !Types.isZeroSized(t))
+		                                   .filter(t -> !Types.isZeroSized(t, context.platform()))
 		                                   .map(this::generate)
 		                                   .collect(Collectors.toList());
 
@@ -92,13 +95,13 @@ public class DeclCodegen extends IVisitor<Void>
 		return new IrFunctionParameter(type, name, nonnull);
 	}
 
-	private List<IrInstr> generateBody(SemaDeclFunctionDef function)
+	private List<IrInstr> generateBody(SemaDeclFunctionDef function, FileCodegenContext context)
 	{
 		var builder = new IrFunctionBuilder();
 
 		for(var param : function.fixedParams)
 		{
-			if(Types.isZeroSized(param.type))
+			if(Types.isZeroSized(param.type, context.platform()))
 				continue;
 
 			var type = generate(param.type);
@@ -113,7 +116,7 @@ public class DeclCodegen extends IVisitor<Void>
 		{
 			var type = entry.getValue().type;
 
-			if(Types.isZeroSized(type))
+			if(Types.isZeroSized(type, context.platform()))
 				continue;
 
 			var typeIr = generate(type);
@@ -130,25 +133,57 @@ public class DeclCodegen extends IVisitor<Void>
 		return builder.build();
 	}
 
+	private IrFunctionSignature signature(SemaDeclFunctionDef function, Linkage linkage, Visibility visibility, DllStorageClass dllStorageClass)
+	{
+		var returnType = generate(function.returnType);
+		var name = FunctionNameMangling.of(function);
+
+		var params = function.fixedParams.stream()
+		                                 .filter(p -> !Types.isZeroSized(p.type, context.platform()))
+		                                 .map(p -> generate(p, false))
+		                                 .collect(Collectors.toList());
+
+		return new IrFunctionSignature(linkage, visibility, dllStorageClass, returnType, name, params, function.isVariadic);
+	}
+
 	private void generate(SemaDeclFunctionDef function)
 	{
 		var exported = function.exportKind != ExportKind.HIDDEN;
-		var linkage = exported ? Linkage.EXTERNAL : Linkage.PRIVATE;
+		var partitioned = context.partitioning().isPartitioned();
+
+		// partitions reference each other's functions, so those cannot be private
+		var linkage = exported || partitioned ? Linkage.EXTERNAL : Linkage.PRIVATE;
+		var visibility = exported || !partitioned ? Visibility.DEFAULT : Visibility.HIDDEN;
 
 		var dllStorageClass = context.build().type == BuildType.LIBRARY_SHARED
 		                      ? exported ? DllStorageClass.DLLEXPORT : DllStorageClass.NONE
 		                      : DllStorageClass.NONE;
 
-		var returnType = generate(function.returnType);
-		var name = FunctionNameMangling.of(function);
+		var signature = signature(function, linkage, visibility, dllStorageClass);
+		var record = context.incremental().isSome()
+		             ? context.incremental().get().get(signature.name)
+		             : Maybe.<FunctionRecord>none();
 
-		var params = function.fixedParams.stream()
-		                                 .filter(p -> !Types.isZeroSized(p.type))
-		                                 .map(p -> generate(p, false))
-		                                 .collect(Collectors.toList());
+		if(record.isNone())
+			builder.defineFunction(signature, generateBody(function, context));
+		else
+			generate(signature, function, record.get());
+	}
 
-		var signature = new IrFunctionSignature(linkage, dllStorageClass, returnType, name, params, function.isVariadic);
-		builder.defineFunction(signature, generateBody(function));
+	private void generate(IrFunctionSignature signature, SemaDeclFunctionDef function, FunctionRecord record)
+	{
+		// records of functions reused from the previous build already hold the code generated back then
+		if(record.ir == null)
+		{
+			var stringPool = new StringPool();
+			var ir = new IrDeclFunctionDef(signature, generateBody(function, context.withStringPool(stringPool)));
+			record.ir = ir.toString();
+			record.instructionCount = ir.instructions.size();
+			record.strings = stringPool.values();
+		}
+
+		context.stringPool().addAll(record.strings);
+		builder.append(new IrDeclText(record.ir, record.instructionCount));
 	}
 
 	private void generate(SemaDeclExternFunction function)
@@ -157,7 +192,7 @@ public class DeclCodegen extends IVisitor<Void>
 		var name = function.externName.or(function.name());
 
 		var params = function.fixedParams.stream()
-		                                 .filter(p -> !Types.isZeroSized(p.type))
+		                                 .filter(p -> !Types.isZeroSized(p.type, context.platform()))
 		                                 .map(p -> generate(p, true))
 		                                 .collect(Collectors.toList());
 
@@ -165,7 +200,7 @@ public class DeclCodegen extends IVisitor<Void>
 		builder.declareFunction(signature);
 	}
 
-	private void visit(SemaDeclOverloadSet set)
+	void visit(SemaDeclOverloadSet set)
 	{
 		for(var overload : set.overloads)
 			if(overload instanceof SemaDeclExternFunction)
@@ -176,20 +211,61 @@ public class DeclCodegen extends IVisitor<Void>
 				throw new AssertionError("unreachable");
 	}
 
-	private void visit(SemaDeclGlobal global)
+	void visit(SemaDeclGlobal global)
 	{
-		if(Types.isZeroSized(global.type))
+		if(Types.isZeroSized(global.type, context.platform()))
 			return;
 
 		var name = qualifiedName(global);
 		var type = generate(global.type);
 		var initializer = global.initializerExpr.map(i -> generate(i).unwrap()).or(new IrValueConstant("zeroinitializer"));
-		builder.defineGlobal(name, AddressMergeability.NONE, Types.isConst(global.type), type, initializer);
+		var partitioned = context.partitioning().isPartitioned();
+		var linkage = partitioned ? Linkage.NONE : Linkage.PRIVATE;
+		var visibility = partitioned ? Visibility.HIDDEN : Visibility.DEFAULT;
+		builder.defineGlobal(name, linkage, visibility, AddressMergeability.NONE, Types.isConst(global.type), type, initializer);
+	}
+
+	private void declare(SemaDeclFunctionDef function)
+	{
+		var visibility = function.exportKind == ExportKind.HIDDEN ? Visibility.HIDDEN : Visibility.DEFAULT;
+		builder.declareFunction(signature(function, Linkage.EXTERNAL, visibility, DllStorageClass.NONE));
+	}
+
+	private void declare(SemaDeclGlobal global)
+	{
+		if(Types.isZeroSized(global.type, context.platform()))
+			return;
+
+		builder.declareGlobal(qualifiedName(global), Visibility.HIDDEN, Types.isConst(global.type), generate(global.type));
+	}
+
+	// declares the symbols of a decl that is defined in another partition
+	public void declare(SemaDecl decl)
+	{
+		if(decl instanceof SemaDeclGlobal)
+		{
+			declare((SemaDeclGlobal)decl);
+			return;
+		}
+
+		if(!(decl instanceof SemaDeclOverloadSet))
+		{
+			generate(decl);
+			return;
+		}
+
+		for(var overload : ((SemaDeclOverloadSet)decl).overloads)
+			if(overload instanceof SemaDeclExternFunction)
+				generate((SemaDeclExternFunction)overload);
+			else if(overload instanceof SemaDeclFunctionDef)
+				declare((SemaDeclFunctionDef)overload);
+			else
+				throw new AssertionError("unreachable");
 	}
 
-	private void visit(SemaDeclTypeAlias alias)
+	void visit(SemaDeclTypeAlias alias)
 	{}
 
-	private void visit(SemaDeclOperator operator)
+	void visit(SemaDeclOperator operator)
 	{}
 }
@@ -38,12 +38,14 @@ import io.katana.compiler.sema.type.SemaTypeFunction;
 import io.katana.compiler.utils.Fraction;
 import io.katana.compiler.utils.Maybe;
 import io.katana.compiler.visitor.IVisitor;
+import io.katana.compiler.visitor.PartialVisitor;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@PartialVisitor
 @SuppressWarnings("unused")
 public class ExprCodegen extends IVisitor<IrValue>
 {
@@ -75,7 +77,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return TypeCodegen.generate(type, context.platform());
 	}
 
-	private IrValue visit(RValueToLValueConversion conversion)
+	IrValue visit(RValueToLValueConversion conversion)
 	{
 		var value = generate(conversion.expr);
 		var type = conversion.expr.type();
@@ -86,21 +88,21 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return pointer;
 	}
 
-	private IrValue visit(SemaExprAddressof addressof)
+	IrValue visit(SemaExprAddressof addressof)
 	{
-		if(Types.isZeroSized(addressof.pointeeExpr.type()))
+		if(Types.isZeroSized(addressof.pointeeExpr.type(), context.platform()))
 			return IrValues.ADDRESS_ONE;
 
 		return generate(addressof.pointeeExpr);
 	}
 
-	private IrValue visit(SemaExprAlignofExpr alignof)
+	IrValue visit(SemaExprAlignofExpr alignof)
 	{
 		var alignment = Types.alignof(alignof.nestedExpr.type(), context.platform());
 		return IrValues.ofConstant(alignment);
 	}
 
-	private IrValue visit(SemaExprAlignofType alignof)
+	IrValue visit(SemaExprAlignofType alignof)
 	{
 		var alignment = Types.alignof(alignof.inspectedType, context.platform());
 		return IrValues.ofConstant(alignment);
@@ -124,9 +126,9 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return builder.getelementptr(baseType, compound, indices);
 	}
 
-	private IrValue visit(SemaExprArrayIndexAccess arrayIndexAccess)
+	IrValue visit(SemaExprArrayIndexAccess arrayIndexAccess)
 	{
-		if(Types.isZeroSized(arrayIndexAccess.type()))
+		if(Types.isZeroSized(arrayIndexAccess.type(), context.platform()))
 			return null;
 
 		var isRValue = arrayIndexAccess.arrayExpr.kind() == ExprKind.RVALUE;
@@ -147,12 +149,12 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return result;
 	}
 
-	private IrValue visit(SemaExprArrayGetLength arrayGetLength)
+	IrValue visit(SemaExprArrayGetLength arrayGetLength)
 	{
 		return IrValues.ofConstant(Types.arrayLength(arrayGetLength.arrayExpr.type()));
 	}
 
-	private IrValue visit(SemaExprArrayGetPointer arrayGetPointer)
+	IrValue visit(SemaExprArrayGetPointer arrayGetPointer)
 	{
 		return generateGetElementPtr(arrayGetPointer.arrayExpr, true, 0);
 	}
@@ -168,7 +170,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return builder.insertvalue(sliceType, intermediate, lengthType, length, SLICE_LENGTH_FIELD_INDEX);
 	}
 
-	private IrValue visit(SemaExprArrayGetSlice arrayGetSlice)
+	IrValue visit(SemaExprArrayGetSlice arrayGetSlice)
 	{
 		var elementType = Types.removeSlice(arrayGetSlice.type());
 		var pointer = generateGetElementPtr(arrayGetSlice.arrayExpr, true, 0);
@@ -176,9 +178,9 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return generateSliceConstruction(elementType, pointer, IrValues.ofConstant(length));
 	}
 
-	private IrValue visit(SemaExprAssign assign)
+	IrValue visit(SemaExprAssign assign)
 	{
-		if(Types.isZeroSized(assign.type()))
+		if(Types.isZeroSized(assign.type(), context.platform()))
 			return null;
 
 		var type = generate(assign.right.type());
@@ -429,7 +431,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return builder.convert(kindIr, sourceTypeIr, value, targetTypeIr);
 	}
 
-	private IrValue visit(SemaExprCast cast)
+	IrValue visit(SemaExprCast cast)
 	{
 		var value = generate(cast.nestedExpr);
 
@@ -465,14 +467,14 @@ public class ExprCodegen extends IVisitor<IrValue>
 		throw new AssertionError("unreachable");
 	}
 
-	private IrValue visit(SemaExprConst const_)
+	IrValue visit(SemaExprConst const_)
 	{
 		return generate(const_.nestedExpr);
 	}
 
-	private IrValue visit(SemaExprDeref deref)
+	IrValue visit(SemaExprDeref deref)
 	{
-		if(Types.isZeroSized(deref.type()))
+		if(Types.isZeroSized(deref.type(), context.platform()))
 			return null;
 
 		return generate(deref.pointerExpr);
@@ -486,7 +488,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		                     .collect(Collectors.toList());
 
 		var argsIr = args.stream()
-		                 .filter(a -> !Types.isZeroSized(a.type()))
+		                 .filter(a -> !Types.isZeroSized(a.type(), context.platform()))
 		                 .map(this::generate)
 		                 .collect(Collectors.toList());
 
@@ -494,7 +496,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return builder.call(functionTypeIr, function, argTypesIr, argsIr, inline).unwrap();
 	}
 
-	private IrValue visit(SemaExprDirectFunctionCall call)
+	IrValue visit(SemaExprDirectFunctionCall call)
 	{
 		String name;
 
@@ -510,12 +512,12 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return generateFunctionCall(function, call.args, call.function.type(), call.inline);
 	}
 
-	private IrValue visit(SemaExprImplicitConversionArrayPointerToPointer conversion)
+	IrValue visit(SemaExprImplicitConversionArrayPointerToPointer conversion)
 	{
 		return generateGetElementPtr(conversion.nestedExpr, true, 0);
 	}
 
-	private IrValue visit(SemaExprImplicitConversionArrayPointerToByteSlice conversion)
+	IrValue visit(SemaExprImplicitConversionArrayPointerToByteSlice conversion)
 	{
 		var elementType = Types.removeArray(Types.removePointer(conversion.nestedExpr.type()));
 		var length = Types.arrayLength(Types.removePointer(conversion.nestedExpr.type()));
@@ -529,7 +531,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return generateSliceConstruction(SemaTypeBuiltin.BYTE, bytePointer, IrValues.ofConstant(length));
 	}
 
-	private IrValue visit(SemaExprImplicitConversionArrayPointerToSlice conversion)
+	IrValue visit(SemaExprImplicitConversionArrayPointerToSlice conversion)
 	{
 		var pointer = generateGetElementPtr(conversion.nestedExpr, true, 0);
 		var length = Types.arrayLength(Types.removePointer(conversion.nestedExpr.type()));
@@ -537,9 +539,9 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return generateSliceConstruction(elementType, pointer, IrValues.ofConstant(length));
 	}
 
-	private IrValue visit(SemaExprImplicitConversionLValueToRValue conversion)
+	IrValue visit(SemaExprImplicitConversionLValueToRValue conversion)
 	{
-		if(Types.isZeroSized(conversion.type()))
+		if(Types.isZeroSized(conversion.type(), context.platform()))
 			return null;
 
 		var value = generate(conversion.nestedExpr);
@@ -547,27 +549,27 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return builder.load(type, value);
 	}
 
-	private IrValue visit(SemaExprImplicitConversionNonNullablePointerToNullablePointer conversion)
+	IrValue visit(SemaExprImplicitConversionNonNullablePointerToNullablePointer conversion)
 	{
 		return generate(conversion.nestedExpr);
 	}
 
-	private IrValue visit(SemaExprImplicitConversionNullToSlice conversion)
+	IrValue visit(SemaExprImplicitConversionNullToSlice conversion)
 	{
 		return generateSliceConstruction(Types.removeSlice(conversion.targetType), IrValues.ADDRESS_ONE, IrValues.ofConstant(0));
 	}
 
-	private IrValue visit(SemaExprImplicitConversionNullToNullablePointer conversion)
+	IrValue visit(SemaExprImplicitConversionNullToNullablePointer conversion)
 	{
 		return IrValues.NULL;
 	}
 
-	private IrValue visit(SemaExprImplicitConversionPointerToNonConstToPointerToConst conversion)
+	IrValue visit(SemaExprImplicitConversionPointerToNonConstToPointerToConst conversion)
 	{
 		return generate(conversion.nestedExpr);
 	}
 
-	private IrValue visit(SemaExprImplicitConversionPointerToBytePointer conversion)
+	IrValue visit(SemaExprImplicitConversionPointerToBytePointer conversion)
 	{
 		var sourceType = generate(conversion.nestedExpr.type());
 		var value = generate(conversion.nestedExpr);
@@ -575,7 +577,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return builder.convert(IrInstrConversion.Kind.BITCAST, sourceType, value, targetType);
 	}
 
-	private IrValue visit(SemaExprImplicitConversionSliceToByteSlice conversion)
+	IrValue visit(SemaExprImplicitConversionSliceToByteSlice conversion)
 	{
 		var elementType = Types.removeSlice(conversion.nestedExpr.type());
 		var slice = generate(conversion.nestedExpr);
@@ -591,12 +593,12 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return generateSliceConstruction(SemaTypeBuiltin.BYTE, bytePointer, byteSize);
 	}
 
-	private IrValue visit(SemaExprImplicitConversionSliceToSliceOfConst conversion)
+	IrValue visit(SemaExprImplicitConversionSliceToSliceOfConst conversion)
 	{
 		return generate(conversion.nestedExpr);
 	}
 
-	private IrValue visit(SemaExprImplicitConversionWiden conversion)
+	IrValue visit(SemaExprImplicitConversionWiden conversion)
 	{
 		var value = generate(conversion.nestedExpr);
 		var sourceType = conversion.nestedExpr.type();
@@ -604,14 +606,14 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return generateCast(value, sourceType, targetType, SemaExprCast.Kind.WIDEN_CAST);
 	}
 
-	private IrValue visit(SemaExprIndirectFunctionCall functionCall)
+	IrValue visit(SemaExprIndirectFunctionCall functionCall)
 	{
 		var function = generate(functionCall.functionExpr);
 		var functionType = (SemaTypeFunction)functionCall.functionExpr.type();
 		return generateFunctionCall(function, functionCall.argExprs, functionType, Inlining.AUTO);
 	}
 
-	private IrValue visit(SemaExprFieldAccess fieldAccess)
+	IrValue visit(SemaExprFieldAccess fieldAccess)
 	{
 		var isRValue = fieldAccess.structExpr.kind() == ExprKind.RVALUE;
 
@@ -629,7 +631,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return result;
 	}
 
-	private IrValue visit(SemaExprLitArray lit)
+	IrValue visit(SemaExprLitArray lit)
 	{
 		var elementType = generate(lit.elementType);
 		var values = lit.elementExprs.stream()
@@ -639,34 +641,34 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return IrValues.ofConstantArray(elementType, values);
 	}
 
-	private IrValue visit(SemaExprLitBool lit)
+	IrValue visit(SemaExprLitBool lit)
 	{
 		return IrValues.ofConstant(lit.value);
 	}
 
-	private IrValue visit(SemaExprLitFloat lit)
+	IrValue visit(SemaExprLitFloat lit)
 	{
 		return lit.type == BuiltinType.FLOAT32
 		       ? IrValues.ofConstant(lit.value.toFloat())
 		       : IrValues.ofConstant(lit.value.toDouble());
 	}
 
-	private IrValue visit(SemaExprLitInt lit)
+	IrValue visit(SemaExprLitInt lit)
 	{
 		return IrValues.ofConstant(lit.value.longValueExact());
 	}
 
-	private IrValue visit(SemaExprLitNull lit)
+	IrValue visit(SemaExprLitNull lit)
 	{
 		return IrValues.NULL;
 	}
 
-	private IrValue visit(SemaExprLitString lit)
+	IrValue visit(SemaExprLitString lit)
 	{
 		return context.stringPool().get(lit.value);
 	}
 
-	private IrValue visit(SemaExprNamedFunc namedFunc)
+	IrValue visit(SemaExprNamedFunc namedFunc)
 	{
 		if(namedFunc.decl instanceof SemaDeclExternFunction)
 		{
@@ -678,35 +680,35 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return IrValues.ofSymbol(name);
 	}
 
-	private IrValue visit(SemaExprNamedGlobal namedGlobal)
+	IrValue visit(SemaExprNamedGlobal namedGlobal)
 	{
 		var name = namedGlobal.decl.qualifiedName().toString();
 		return IrValues.ofSymbol(name);
 	}
 
-	private IrValue visit(SemaExprNamedVar namedVar)
+	IrValue visit(SemaExprNamedVar namedVar)
 	{
 		return IrValues.ofSsa(namedVar.decl.name);
 	}
 
-	private IrValue visit(SemaExprNamedParam namedParam)
+	IrValue visit(SemaExprNamedParam namedParam)
 	{
 		return IrValues.ofSsa(namedParam.decl.name);
 	}
 
-	private IrValue visit(SemaExprOffsetof offsetof)
+	IrValue visit(SemaExprOffsetof offsetof)
 	{
 		var offset = offsetof.field.offsetof();
 		return IrValues.ofConstant(offset);
 	}
 
-	private IrValue visit(SemaExprSizeofExpr sizeof)
+	IrValue visit(SemaExprSizeofExpr sizeof)
 	{
 		var size = Types.sizeof(sizeof.nestedExpr.type(), context.platform());
 		return IrValues.ofConstant(size);
 	}
 
-	private IrValue visit(SemaExprSizeofType sizeof)
+	IrValue visit(SemaExprSizeofType sizeof)
 	{
 		var size = Types.sizeof(sizeof.inspectedType, context.platform());
 		return IrValues.ofConstant(size);
@@ -719,7 +721,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return builder.extractvalue(compoundType, compoundIr, index);
 	}
 
-	private IrValue visit(SemaExprSliceGetLength sliceGetLength)
+	IrValue visit(SemaExprSliceGetLength sliceGetLength)
 	{
 		if(sliceGetLength.sliceExpr.kind() == ExprKind.RVALUE)
 			return generateExtractValue(sliceGetLength.sliceExpr, SLICE_LENGTH_FIELD_INDEX);
@@ -727,7 +729,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return generateGetElementPtr(sliceGetLength.sliceExpr, true, SLICE_LENGTH_FIELD_INDEX);
 	}
 
-	private IrValue visit(SemaExprSliceGetPointer sliceGetPointer)
+	IrValue visit(SemaExprSliceGetPointer sliceGetPointer)
 	{
 		if(sliceGetPointer.sliceExpr.kind() == ExprKind.RVALUE)
 			return generateExtractValue(sliceGetPointer.sliceExpr, SLICE_POINTER_FIELD_INDEX);
@@ -735,7 +737,7 @@ public class ExprCodegen extends IVisitor<IrValue>
 		return generateGetElementPtr(sliceGetPointer.sliceExpr, true, SLICE_POINTER_FIELD_INDEX);
 	}
 
-	private IrValue visit(SemaExprSliceIndexAccess sliceIndexAccess)
+	IrValue visit(SemaExprSliceIndexAccess sliceIndexAccess)
 	{
 		var pointer = new SemaExprSliceGetPointer(sliceIndexAccess.sliceExpr).asRValue();
 		var indexType = generate(sliceIndexAccess.indexExpr.type());
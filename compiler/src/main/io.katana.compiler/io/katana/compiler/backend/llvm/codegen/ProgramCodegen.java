@@ -20,6 +20,7 @@ import io.katana.compiler.analysis.Types;
 import io.katana.compiler.ast.AstPath;
 import io.katana.compiler.backend.PlatformContext;
 import io.katana.compiler.backend.llvm.FileCodegenContext;
+import io.katana.compiler.backend.llvm.Partitioning;
 import io.katana.compiler.backend.llvm.ir.IrModule;
 import io.katana.compiler.backend.llvm.ir.IrModuleBuilder;
 import io.katana.compiler.backend.llvm.ir.decl.*;
@@ -28,6 +29,7 @@ import io.katana.compiler.backend.llvm.ir.type.IrTypes;
 import io.katana.compiler.backend.llvm.ir.value.IrValues;
 import io.katana.compiler.diag.CompileException;
 import io.katana.compiler.diag.TypeString;
+import io.katana.compiler.incremental.IncrementalState;
 import io.katana.compiler.project.BuildTarget;
 import io.katana.compiler.sema.SemaModule;
 import io.katana.compiler.sema.SemaProgram;
@@ -35,10 +37,12 @@ import io.katana.compiler.sema.decl.SemaDecl;
 import io.katana.compiler.sema.decl.SemaDeclFunction;
 import io.katana.compiler.sema.decl.SemaDeclOverloadSet;
 import io.katana.compiler.sema.type.SemaTypeBuiltin;
+import io.katana.compiler.utils.Futures;
 import io.katana.compiler.utils.Maybe;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 public class ProgramCodegen
@@ -74,12 +78,178 @@ public class ProgramCodegen
 		declareIntrinsic(builder, IrTypes.VOID, "llvm.memset.p0i8."       + nint, byteptr, IrTypes.I8, nint, IrTypes.I1);
 	}
 
-	private static void generateDecls(DeclCodegen codegen, SemaModule module)
+	private static void collectDecls(SemaModule module, List<SemaDecl> decls)
 	{
 		for(var child : module.children().values())
-			generateDecls(codegen, child);
+			collectDecls(child, decls);
 
-		module.decls().values().forEach(codegen::generate);
+		decls.addAll(module.decls().values());
+	}
+
+	private static class GeneratedDecl
+	{
+		public final SemaDecl decl;
+		public final IrModule module;
+		public final StringPool stringPool;
+
+		public GeneratedDecl(SemaDecl decl, IrModule module, StringPool stringPool)
+		{
+			this.decl = decl;
+			this.module = module;
+			this.stringPool = stringPool;
+		}
+
+		public boolean definesSymbols()
+		{
+			for(var decl : module.decls)
+				if(decl instanceof IrDeclFunctionDef || decl instanceof IrDeclText || decl instanceof IrDeclGlobalDef)
+					return true;
+
+			return false;
+		}
+
+		// the number of instructions, which is what the time spent in llvm scales with. it is the same whether
+		// a function was generated or reused, so the partitions do not change between clean and incremental builds
+		public long weight()
+		{
+			var result = 0L;
+
+			for(var decl : module.decls)
+				if(decl instanceof IrDeclFunctionDef)
+					result += ((IrDeclFunctionDef)decl).instructions.size();
+				else if(decl instanceof IrDeclText)
+					result += ((IrDeclText)decl).instructionCount;
+
+			return result;
+		}
+	}
+
+	private static class Partition
+	{
+		public final String name;
+		public final Set<GeneratedDecl> decls = Collections.newSetFromMap(new IdentityHashMap<>());
+		public long weight = 0;
+
+		public Partition(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	private static GeneratedDecl generateDecl(SemaDecl decl, FileCodegenContext context)
+	{
+		var builder = new IrModuleBuilder();
+		var stringPool = new StringPool();
+		new DeclCodegen(context.withStringPool(stringPool), builder).generate(decl);
+		return new GeneratedDecl(decl, builder.build(), stringPool);
+	}
+
+	// every decl is generated into a module of its own, partitions are assembled from them in the sequential order afterwards
+	private static List<GeneratedDecl> generateDecls(SemaProgram program, FileCodegenContext context, ExecutorService executor)
+	{
+		var decls = new ArrayList<SemaDecl>();
+		collectDecls(program.rootModule, decls);
+
+		var futures = new ArrayList<Future<GeneratedDecl>>();
+
+		for(var decl : decls)
+			futures.add(executor.submit(() -> generateDecl(decl, context)));
+
+		var result = new ArrayList<GeneratedDecl>();
+
+		for(var future : futures)
+			result.add(Futures.join(future));
+
+		return result;
+	}
+
+	private static List<Partition> partitionByModule(BuildTarget build, List<GeneratedDecl> decls)
+	{
+		var partitions = new LinkedHashMap<SemaModule, Partition>();
+
+		for(var decl : decls)
+		{
+			var module = decl.decl.module();
+			var partition = partitions.computeIfAbsent(module, m -> new Partition(build.name + "." + m.path()));
+			partition.decls.add(decl);
+		}
+
+		return new ArrayList<>(partitions.values());
+	}
+
+	// longest processing time first: the heaviest remaining decl goes to the lightest partition
+	private static List<Partition> partitionBalanced(BuildTarget build, List<GeneratedDecl> decls, int count)
+	{
+		var partitions = new ArrayList<Partition>();
+
+		for(var i = 0; i != count; ++i)
+			partitions.add(new Partition(build.name + "." + i));
+
+		var weights = new IdentityHashMap<GeneratedDecl, Long>();
+
+		for(var decl : decls)
+			weights.put(decl, decl.weight());
+
+		var sorted = new ArrayList<>(decls);
+		sorted.sort(Comparator.comparing(weights::get, Comparator.reverseOrder()));
+
+		for(var decl : sorted)
+		{
+			var lightest = Collections.min(partitions, Comparator.comparingLong(p -> p.weight));
+			lightest.decls.add(decl);
+			lightest.weight += weights.get(decl);
+		}
+
+		return partitions;
+	}
+
+	private static List<Partition> partition(BuildTarget build, List<GeneratedDecl> decls, Partitioning partitioning)
+	{
+		if(!partitioning.isPartitioned())
+		{
+			var partition = new Partition(build.name);
+			partition.decls.addAll(decls);
+			return Collections.singletonList(partition);
+		}
+
+		var partitions = partitioning.kind == Partitioning.Kind.MODULE
+		                 ? partitionByModule(build, decls)
+		                 : partitionBalanced(build, decls, partitioning.count);
+
+		// types and extern functions are declared in every partition, partitions with nothing else to offer are dropped
+		var result = partitions.stream()
+		                       .filter(p -> p.decls.stream().anyMatch(GeneratedDecl::definesSymbols))
+		                       .collect(Collectors.toList());
+
+		return result.isEmpty() ? partitions.subList(0, 1) : result;
+	}
+
+	private static IrModule generatePartition(Partition partition, List<GeneratedDecl> decls, FileCodegenContext context, Maybe<SemaDecl> entryPoint)
+	{
+		var builder = new IrModuleBuilder();
+		var stringPool = new StringPool();
+		var codegen = new DeclCodegen(context, builder);
+
+		builder.declareTargetTriple(context.platform().target());
+		generateIntrinsicDecls(builder, context.platform());
+
+		for(var decl : decls)
+		{
+			if(partition.decls.contains(decl))
+			{
+				builder.append(decl.module);
+				stringPool.addAll(decl.stringPool.values());
+			}
+			else
+				codegen.declare(decl.decl);
+		}
+
+		stringPool.generate(builder);
+
+		if(entryPoint.isSome())
+			builder.append(createMain(entryPoint.get(), context.platform()));
+
+		return builder.build();
 	}
 
 	private static IrDeclFunctionDef createMain(SemaDecl func, PlatformContext context)
@@ -141,24 +311,28 @@ public class ProgramCodegen
 		throw new CompileException(String.format("entry point must return 'void' or 'int32', got '%s'", TypeString.of(func.returnType)));
 	}
 
-	public static IrModule generate(BuildTarget build, SemaProgram program, PlatformContext platform)
+	public static Map<String, IrModule> generate(BuildTarget build, SemaProgram program, PlatformContext platform, ExecutorService executor,
+	                                             Partitioning partitioning, Maybe<IncrementalState> incremental)
 	{
-		var builder = new IrModuleBuilder();
-		var stringPool = new StringPool();
-		var context = new FileCodegenContext(build, platform, stringPool);
+		var context = new FileCodegenContext(build, platform, new StringPool(), partitioning, incremental);
+		var entryPoint = build.entryPoint == null ? Maybe.<SemaDecl>none() : Maybe.some(findEntryPoint(program, build.entryPoint));
+		var decls = generateDecls(program, context, executor);
+		var partitions = partition(build, decls, partitioning);
 
-		builder.declareTargetTriple(context.platform().target());
-		generateIntrinsicDecls(builder, platform);
-		generateDecls(new DeclCodegen(context, builder), program.rootModule);
-		stringPool.generate(builder);
+		var futures = new ArrayList<Future<IrModule>>();
 
-		if(build.entryPoint != null)
+		for(var i = 0; i != partitions.size(); ++i)
 		{
-			var entryPoint = findEntryPoint(program, build.entryPoint);
-			var wrapper = createMain(entryPoint, platform);
-			builder.append(wrapper);
+			var partition = partitions.get(i);
+			var partitionEntryPoint = i == 0 ? entryPoint : Maybe.<SemaDecl>none();
+			futures.add(executor.submit(() -> generatePartition(partition, decls, context, partitionEntryPoint)));
 		}
 
-		return builder.build();
+		var result = new LinkedHashMap<String, IrModule>();
+
+		for(var i = 0; i != partitions.size(); ++i)
+			result.put(partitions.get(i).name, Futures.join(futures.get(i)));
+
+		return result;
 	}
 }
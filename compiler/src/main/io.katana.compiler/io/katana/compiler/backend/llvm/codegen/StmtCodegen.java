@@ -28,9 +28,11 @@ import io.katana.compiler.sema.stmt.*;
 import io.katana.compiler.sema.type.SemaType;
 import io.katana.compiler.utils.Maybe;
 import io.katana.compiler.visitor.IVisitor;
+import io.katana.compiler.visitor.PartialVisitor;
 
 import java.util.ArrayList;
 
+@PartialVisitor
 @SuppressWarnings("unused")
 public class StmtCodegen extends IVisitor<Void>
 {
@@ -54,7 +56,7 @@ public class StmtCodegen extends IVisitor<Void>
 	{
 		if(!preceededByTerminator)
 		{
-			if(Types.isZeroSized(func.returnType))
+			if(Types.isZeroSized(func.returnType, context.platform()))
 				builder.ret(IrTypes.VOID, Maybe.none());
 			else
 				builder.unreachable();
@@ -71,7 +73,7 @@ public class StmtCodegen extends IVisitor<Void>
 		return TypeCodegen.generate(type, context.platform());
 	}
 
-	private void visit(SemaStmtCompound compound)
+	void visit(SemaStmtCompound compound)
 	{
 		preceededByTerminator = false;
 
@@ -79,7 +81,7 @@ public class StmtCodegen extends IVisitor<Void>
 			generate(stmt);
 	}
 
-	private void visit(SemaStmtExprStmt stmt)
+	void visit(SemaStmtExprStmt stmt)
 	{
 		preceededByTerminator = false;
 		generate(stmt.nestedExpr);
@@ -91,17 +93,17 @@ public class StmtCodegen extends IVisitor<Void>
 		builder.br(label);
 	}
 
-	private void visit(SemaStmtGoto goto_)
+	void visit(SemaStmtGoto goto_)
 	{
 		generateGoto(IrLabel.of(goto_.targetLabel.name));
 	}
 
-	private void visit(GeneratedGoto goto_)
+	void visit(GeneratedGoto goto_)
 	{
 		generateGoto(IrLabel.of(goto_.label.name));
 	}
 
-	private void visit(SemaStmtIf if_)
+	void visit(SemaStmtIf if_)
 	{
 		var condition = generate(if_.conditionExpr).unwrap();
 
@@ -121,7 +123,7 @@ public class StmtCodegen extends IVisitor<Void>
 		preceededByTerminator = false;
 	}
 
-	private void visit(SemaStmtIfElse ifelse)
+	void visit(SemaStmtIfElse ifelse)
 	{
 		var after = builder.allocateLabel("ifelse.after");
 
@@ -134,7 +136,7 @@ public class StmtCodegen extends IVisitor<Void>
 		generateLabel(after);
 	}
 
-	private void visit(SemaStmtLoop loop)
+	void visit(SemaStmtLoop loop)
 	{
 		var label = builder.allocateLabel("loop");
 		generateLabel(label);
@@ -142,7 +144,7 @@ public class StmtCodegen extends IVisitor<Void>
 		builder.br(label);
 	}
 
-	private void visit(SemaStmtWhile while_)
+	void visit(SemaStmtWhile while_)
 	{
 		var afterLabel = builder.allocateLabel("while.after");
 
@@ -163,12 +165,12 @@ public class StmtCodegen extends IVisitor<Void>
 		preceededByTerminator = false;
 	}
 
-	private void visit(SemaStmtLabel label)
+	void visit(SemaStmtLabel label)
 	{
 		generateLabel(IrLabel.of(label.name));
 	}
 
-	private void visit(SemaStmtReturn ret)
+	void visit(SemaStmtReturn ret)
 	{
 		preceededByTerminator = true;
 		var type = ret.returnValueExpr.map(SemaExpr::type).map(this::generate).or(IrTypes.VOID);
@@ -176,10 +178,10 @@ public class StmtCodegen extends IVisitor<Void>
 		builder.ret(type, value);
 	}
 
-	private void visit(SemaStmtNullStmt nullStmt)
+	void visit(SemaStmtNullStmt nullStmt)
 	{}
 
-	private void visit(SemaStmtUnreachable unreachable)
+	void visit(SemaStmtUnreachable unreachable)
 	{
 		preceededByTerminator = true;
 		builder.unreachable();
@@ -16,35 +16,48 @@ package io.katana.compiler.backend.llvm.codegen;
 
 import io.katana.compiler.backend.llvm.ir.IrModuleBuilder;
 import io.katana.compiler.backend.llvm.ir.decl.AddressMergeability;
+import io.katana.compiler.backend.llvm.ir.decl.Linkage;
+import io.katana.compiler.backend.llvm.ir.decl.Visibility;
 import io.katana.compiler.backend.llvm.ir.type.IrTypes;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 import io.katana.compiler.backend.llvm.ir.value.IrValueConstant;
 import io.katana.compiler.backend.llvm.ir.value.IrValues;
+import io.katana.compiler.utils.Hashing;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class StringPool
 {
-	private final Map<String, String> namesByValue = new TreeMap<>();
-	private int counter = 0;
+	// functions are generated concurrently, the sorted map keeps the emitted globals in a stable order
+	private final Map<String, String> namesByValue = new ConcurrentSkipListMap<>();
 
-	private String generateName()
+	// names only depend on the value, so generated code referring to them stays valid
+	// no matter which other strings end up in the pool, see IncrementalState
+	private static String generateName(String value)
 	{
-		return String.format("strpool$%s", counter++);
+		return "strpool$" + Hashing.sha256(value).substring(0, 32);
 	}
 
 	public IrValue get(String value)
 	{
-		var name = namesByValue.get(value);
+		var name = namesByValue.computeIfAbsent(value, StringPool::generateName);
+		return IrValues.ofSymbol(name);
+	}
 
-		if(name != null)
-			return IrValues.ofSymbol(name);
+	public void addAll(Collection<String> values)
+	{
+		for(var value : values)
+			get(value);
+	}
 
-		name = generateName();
-		namesByValue.put(value, name);
-		return IrValues.ofSymbol(name);
+	public List<String> values()
+	{
+		return new ArrayList<>(namesByValue.keySet());
 	}
 
 	private byte[] utf8Encode(int cp)
@@ -85,7 +98,7 @@ public class StringPool
 			var value = entry.getKey();
 			var type = IrTypes.ofArray(value.length(), IrTypes.I8);
 			var initializer = String.format("c\"%s\"", escape(entry.getKey()));
-			builder.defineGlobal(name, AddressMergeability.UNNAMED_ADDR, true, type, new IrValueConstant(initializer));
+			builder.defineGlobal(name, Linkage.PRIVATE, Visibility.DEFAULT, AddressMergeability.UNNAMED_ADDR, true, type, new IrValueConstant(initializer));
 		}
 	}
 }
@@ -44,7 +44,7 @@ public class TypeCodegen extends IVisitor<IrType>
 		return invokeSelf(type);
 	}
 
-	private IrType visit(SemaTypeBuiltin type)
+	IrType visit(SemaTypeBuiltin type)
 	{
 		switch(type.which)
 		{
@@ -74,7 +74,7 @@ public class TypeCodegen extends IVisitor<IrType>
 		throw new AssertionError("unreachable");
 	}
 
-	private IrType visit(SemaTypeFunction type)
+	IrType visit(SemaTypeFunction type)
 	{
 		var returnType = generate(type.returnType);
 		var parameterTypes = type.params.fixedParamTypes.stream()
@@ -84,12 +84,12 @@ public class TypeCodegen extends IVisitor<IrType>
 		return IrTypes.ofFunction(returnType, parameterTypes, type.params.isVariadic);
 	}
 
-	private IrType visit(SemaTypeStruct type)
+	IrType visit(SemaTypeStruct type)
 	{
 		return IrTypes.ofIdentifiedStruct(type.decl.qualifiedName().toString());
 	}
 
-	private IrType visit(SemaTypeSlice type)
+	IrType visit(SemaTypeSlice type)
 	{
 		var elementType = generate(type.elementType);
 		var elementPointerType = IrTypes.ofPointer(elementType);
@@ -97,33 +97,33 @@ public class TypeCodegen extends IVisitor<IrType>
 		return IrTypes.ofLiteralStruct(elementPointerType, lengthType);
 	}
 
-	private IrType visit(SemaTypeArray type)
+	IrType visit(SemaTypeArray type)
 	{
 		return IrTypes.ofArray(type.length, generate(type.elementType));
 	}
 
-	private IrType visit(SemaTypeConst type)
+	IrType visit(SemaTypeConst type)
 	{
 		return generate(type.nestedType);
 	}
 
-	private IrType visit(SemaTypeNullablePointer type)
+	IrType visit(SemaTypeNullablePointer type)
 	{
-		if(Types.isZeroSized(type.pointeeType))
+		if(Types.isZeroSized(type.pointeeType, context))
 			return IrTypes.ofPointer(IrTypes.I8);
 
 		return IrTypes.ofPointer(generate(type.pointeeType));
 	}
 
-	private IrType visit(SemaTypeNonNullablePointer type)
+	IrType visit(SemaTypeNonNullablePointer type)
 	{
-		if(Types.isZeroSized(type.pointeeType))
+		if(Types.isZeroSized(type.pointeeType, context))
 			return IrTypes.ofPointer(IrTypes.I8);
 
 		return IrTypes.ofPointer(generate(type.pointeeType));
 	}
 
-	private IrType visit(SemaTypeTuple tuple)
+	IrType visit(SemaTypeTuple tuple)
 	{
 		return IrTypes.ofLiteralStruct(tuple.fieldTypes.stream()
 		                                               .map(this::generate)
@@ -14,12 +14,12 @@
 
 package io.katana.compiler.backend.llvm.ir;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class IrLabel
+public class IrLabel implements IrWritable
 {
-	private static final Map<String, IrLabel> LABEL_CACHE = new HashMap<>();
+	private static final Map<String, IrLabel> LABEL_CACHE = new ConcurrentHashMap<>();
 
 	public final String name;
 
@@ -33,9 +33,15 @@ public class IrLabel
 		return LABEL_CACHE.computeIfAbsent(name, IrLabel::new);
 	}
 
+	@Override
+	public void write(IrWriter writer)
+	{
+		writer.append('%').append(name);
+	}
+
 	@Override
 	public String toString()
 	{
-		return '%' + name;
+		return IrWriter.toString(this);
 	}
 }
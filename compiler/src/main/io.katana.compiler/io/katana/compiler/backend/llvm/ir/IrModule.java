@@ -16,8 +16,11 @@ package io.katana.compiler.backend.llvm.ir;
 
 import io.katana.compiler.backend.llvm.ir.decl.IrDecl;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class IrModule
 {
@@ -28,11 +31,37 @@ public class IrModule
 		this.decls = decls;
 	}
 
+	public void write(Writer out) throws IOException
+	{
+		var writer = new IrWriter(out);
+
+		try
+		{
+			for(var decl : decls)
+				writer.append(decl);
+
+			writer.flush();
+		}
+		catch(UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+	}
+
 	@Override
 	public String toString()
 	{
-		return decls.stream()
-		            .map(IrDecl::toString)
-		            .collect(Collectors.joining());
+		var out = new StringWriter();
+
+		try
+		{
+			write(out);
+		}
+		catch(IOException ex)
+		{
+			throw new AssertionError("unreachable");
+		}
+
+		return out.toString();
 	}
 }
@@ -32,6 +32,11 @@ public class IrModuleBuilder
 		decls.add(decl);
 	}
 
+	public void append(IrModule module)
+	{
+		decls.addAll(module.decls);
+	}
+
 	public IrModule build()
 	{
 		return new IrModule(decls);
@@ -47,9 +52,15 @@ public class IrModuleBuilder
 		decls.add(new IrDeclTypeDef(name, fields));
 	}
 
-	public void defineGlobal(String name, AddressMergeability mergeability, boolean constant, IrType type, IrValue initializer)
+	public void defineGlobal(String name, Linkage linkage, Visibility visibility, AddressMergeability mergeability, boolean constant,
+	                         IrType type, IrValue initializer)
+	{
+		decls.add(new IrDeclGlobalDef(name, linkage, visibility, mergeability, constant, type, initializer));
+	}
+
+	public void declareGlobal(String name, Visibility visibility, boolean constant, IrType type)
 	{
-		decls.add(new IrDeclGlobalDef(name, mergeability, constant, type, initializer));
+		decls.add(new IrDeclGlobalDecl(name, visibility, constant, type));
 	}
 
 	public void declareFunction(IrFunctionSignature signature)
@@ -1,4 +1,4 @@
-// Copyright 2016-2019 Markus Grech
+// Copyright 2019 Markus Grech
 //
 // Licensed under the Apache License, Version 2.0 (the "License");
 // you may not use this file except in compliance with the License.
@@ -12,10 +12,9 @@
 // See the License for the specific language governing permissions and
 // limitations under the License.
 
-package io.katana.compiler.analysis;
+package io.katana.compiler.backend.llvm.ir;
 
-public enum DepResolveState
+public interface IrWritable
 {
-	ONGOING,
-	FINISHED,
+	void write(IrWriter writer);
 }
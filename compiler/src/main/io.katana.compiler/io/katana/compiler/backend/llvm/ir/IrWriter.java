@@ -0,0 +1,143 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.backend.llvm.ir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+// buffers characters itself, so writing to the underlying writer is neither synchronized nor done char by char
+public class IrWriter
+{
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Writer out;
+	private final char[] buffer;
+	private final char[] digits = new char[20];
+	private int size = 0;
+
+	private IrWriter(Writer out, int bufferSize)
+	{
+		this.out = out;
+		this.buffer = new char[bufferSize];
+	}
+
+	public IrWriter(Writer out)
+	{
+		this(out, BUFFER_SIZE);
+	}
+
+	public static String toString(IrWritable writable)
+	{
+		var out = new StringWriter();
+		var writer = new IrWriter(out, 256);
+		writable.write(writer);
+		writer.flush();
+		return out.toString();
+	}
+
+	public IrWriter append(char c)
+	{
+		if(size == buffer.length)
+			flush();
+
+		buffer[size++] = c;
+		return this;
+	}
+
+	public IrWriter append(String s)
+	{
+		var offset = 0;
+
+		while(offset != s.length())
+		{
+			if(size == buffer.length)
+				flush();
+
+			var count = Math.min(s.length() - offset, buffer.length - size);
+			s.getChars(offset, offset + count, buffer, size);
+			size += count;
+			offset += count;
+		}
+
+		return this;
+	}
+
+	public IrWriter appendLowerCase(Enum<?> value)
+	{
+		var name = value.name();
+
+		for(var i = 0; i != name.length(); ++i)
+			append(Character.toLowerCase(name.charAt(i)));
+
+		return this;
+	}
+
+	public IrWriter append(long value)
+	{
+		var position = digits.length;
+		var remaining = value;
+
+		// works on negative remainders too, so that Long.MIN_VALUE needs no special case
+		do
+		{
+			digits[--position] = (char)('0' + Math.abs(remaining % 10));
+			remaining /= 10;
+		}
+		while(remaining != 0);
+
+		if(value < 0)
+			digits[--position] = '-';
+
+		for(var i = position; i != digits.length; ++i)
+			append(digits[i]);
+
+		return this;
+	}
+
+	public IrWriter append(IrWritable writable)
+	{
+		writable.write(this);
+		return this;
+	}
+
+	public IrWriter append(List<? extends IrWritable> writables, String separator)
+	{
+		for(var i = 0; i != writables.size(); ++i)
+		{
+			if(i != 0)
+				append(separator);
+
+			writables.get(i).write(this);
+		}
+
+		return this;
+	}
+
+	public void flush()
+	{
+		try
+		{
+			out.write(buffer, 0, size);
+			size = 0;
+		}
+		catch(IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+}
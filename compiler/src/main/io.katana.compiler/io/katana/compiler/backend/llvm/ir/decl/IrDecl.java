@@ -14,6 +14,14 @@
 
 package io.katana.compiler.backend.llvm.ir.decl;
 
-public abstract class IrDecl
+import io.katana.compiler.backend.llvm.ir.IrWritable;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
+public abstract class IrDecl implements IrWritable
 {
+	@Override
+	public String toString()
+	{
+		return IrWriter.toString(this);
+	}
 }
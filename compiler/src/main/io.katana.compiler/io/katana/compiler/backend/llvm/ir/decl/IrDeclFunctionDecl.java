@@ -14,6 +14,8 @@
 
 package io.katana.compiler.backend.llvm.ir.decl;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 public class IrDeclFunctionDecl extends IrDecl
 {
 	public final IrFunctionSignature signature;
@@ -24,8 +26,8 @@ public class IrDeclFunctionDecl extends IrDecl
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("declare %s\n", signature);
+		writer.append("declare ").append(signature).append('\n');
 	}
 }
@@ -14,11 +14,11 @@
 
 package io.katana.compiler.backend.llvm.ir.decl;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.instr.IrInstr;
 import io.katana.compiler.backend.llvm.ir.instr.IrInstrLabel;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class IrDeclFunctionDef extends IrDecl
 {
@@ -31,25 +31,19 @@ public class IrDeclFunctionDef extends IrDecl
 		this.instructions = instructions;
 	}
 
-	private String toString(IrInstr instr)
+	@Override
+	public void write(IrWriter writer)
 	{
-		var builder = new StringBuilder();
-
-		if(!(instr instanceof IrInstrLabel))
-			builder.append('\t');
+		writer.append("define ").append(signature).append("\n{\n");
 
-		builder.append(instr);
-		builder.append('\n');
-		return builder.toString();
-	}
+		for(var instr : instructions)
+		{
+			if(!(instr instanceof IrInstrLabel))
+				writer.append('\t');
 
-	@Override
-	public String toString()
-	{
-		var instrs = instructions.stream()
-		                         .map(this::toString)
-		                         .collect(Collectors.joining());
+			writer.append(instr).append('\n');
+		}
 
-		return String.format("define %s\n{\n%s}\n", signature, instrs);
+		writer.append("}\n");
 	}
 }
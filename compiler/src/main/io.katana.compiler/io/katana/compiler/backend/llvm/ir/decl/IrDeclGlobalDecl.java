@@ -0,0 +1,46 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.backend.llvm.ir.decl;
+
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+import io.katana.compiler.backend.llvm.ir.type.IrType;
+
+public class IrDeclGlobalDecl extends IrDecl
+{
+	public final String name;
+	public final Visibility visibility;
+	public final boolean constant;
+	public final IrType type;
+
+	public IrDeclGlobalDecl(String name, Visibility visibility, boolean constant, IrType type)
+	{
+		this.name = name;
+		this.visibility = visibility;
+		this.constant = constant;
+		this.type = type;
+	}
+
+	@Override
+	public void write(IrWriter writer)
+	{
+		writer.append('@').append(name).append(" = external ");
+
+		if(visibility != Visibility.DEFAULT)
+			writer.appendLowerCase(visibility).append(' ');
+
+		writer.append(constant ? "constant" : "global");
+		writer.append(' ').append(type).append('\n');
+	}
+}
@@ -14,20 +14,26 @@
 
 package io.katana.compiler.backend.llvm.ir.decl;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 
 public class IrDeclGlobalDef extends IrDecl
 {
 	public final String name;
+	public final Linkage linkage;
+	public final Visibility visibility;
 	public final AddressMergeability mergeability;
 	public final boolean constant;
 	public final IrType type;
 	public final IrValue initializer;
 
-	public IrDeclGlobalDef(String name, AddressMergeability mergeability, boolean constant, IrType type, IrValue initializer)
+	public IrDeclGlobalDef(String name, Linkage linkage, Visibility visibility, AddressMergeability mergeability, boolean constant,
+	                       IrType type, IrValue initializer)
 	{
 		this.name = name;
+		this.linkage = linkage;
+		this.visibility = visibility;
 		this.mergeability = mergeability;
 		this.constant = constant;
 		this.type = type;
@@ -35,17 +41,20 @@ public class IrDeclGlobalDef extends IrDecl
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		var attributes = new StringBuilder();
+		writer.append('@').append(name).append(" = ");
+
+		if(linkage != Linkage.NONE)
+			writer.appendLowerCase(linkage).append(' ');
+
+		if(visibility != Visibility.DEFAULT)
+			writer.appendLowerCase(visibility).append(' ');
 
 		if(mergeability != AddressMergeability.NONE)
-		{
-			attributes.append(mergeability.toString().toLowerCase());
-			attributes.append(' ');
-		}
+			writer.appendLowerCase(mergeability).append(' ');
 
-		attributes.append(constant ? "constant" : "global");
-		return String.format("@%s = private %s %s %s\n", name, attributes, type, initializer);
+		writer.append(constant ? "constant" : "global");
+		writer.append(' ').append(type).append(' ').append(initializer).append('\n');
 	}
 }
@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.decl;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.platform.TargetTriple;
 
 public class IrDeclTargetTriple extends IrDecl
@@ -26,8 +27,8 @@ public class IrDeclTargetTriple extends IrDecl
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("target triple = \"%s\"\n", triple);
+		writer.append("target triple = \"").append(triple.toString()).append("\"\n");
 	}
 }
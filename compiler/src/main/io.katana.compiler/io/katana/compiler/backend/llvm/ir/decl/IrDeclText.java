@@ -0,0 +1,38 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.backend.llvm.ir.decl;
+
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
+// code generated by a previous build, see IncrementalState
+public class IrDeclText extends IrDecl
+{
+	public final String text;
+
+	// of the code in text, which is not parsed back
+	public final int instructionCount;
+
+	public IrDeclText(String text, int instructionCount)
+	{
+		this.text = text;
+		this.instructionCount = instructionCount;
+	}
+
+	@Override
+	public void write(IrWriter writer)
+	{
+		writer.append(text);
+	}
+}
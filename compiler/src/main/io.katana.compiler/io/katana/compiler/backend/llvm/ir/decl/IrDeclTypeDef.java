@@ -14,10 +14,10 @@
 
 package io.katana.compiler.backend.llvm.ir.decl;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class IrDeclTypeDef extends IrDecl
 {
@@ -31,12 +31,8 @@ public class IrDeclTypeDef extends IrDecl
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		var content = fields.stream()
-		                    .map(IrType::toString)
-		                    .collect(Collectors.joining(", "));
-
-		return String.format("%%%s = type {%s}\n", name, content);
+		writer.append('%').append(name).append(" = type {").append(fields, ", ").append("}\n");
 	}
 }
@@ -14,11 +14,11 @@
 
 package io.katana.compiler.backend.llvm.ir.decl;
 
+import io.katana.compiler.backend.llvm.ir.IrWritable;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 
-import java.util.ArrayList;
-
-public class IrFunctionParameter
+public class IrFunctionParameter implements IrWritable
 {
 	public final IrType type;
 	public final String name;
@@ -37,18 +37,20 @@ public class IrFunctionParameter
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		var attributes = new ArrayList<String>();
+		writer.append(type);
 
 		if(nonnull)
-			attributes.add("nonnull");
+			writer.append(" nonnull");
 
-		var attributesString = attributes.isEmpty() ? "" : " " + String.join(" ", attributes);
-
-		if(name == null)
-			return String.format("%s%s", type, attributesString);
+		if(name != null)
+			writer.append(" %").append(name);
+	}
 
-		return String.format("%s%s %%%s", type, attributesString, name);
+	@Override
+	public String toString()
+	{
+		return IrWriter.toString(this);
 	}
 }
@@ -14,25 +14,27 @@
 
 package io.katana.compiler.backend.llvm.ir.decl;
 
+import io.katana.compiler.backend.llvm.ir.IrWritable;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-public class IrFunctionSignature
+public class IrFunctionSignature implements IrWritable
 {
 	public final Linkage linkage;
+	public final Visibility visibility;
 	public final DllStorageClass dllStorageClass;
 	public final IrType returnType;
 	public final String name;
 	public final List<IrFunctionParameter> parameters;
 	public final boolean isVariadic;
 
-	public IrFunctionSignature(Linkage linkage, DllStorageClass dllStorageClass, IrType returnType, String name,
+	public IrFunctionSignature(Linkage linkage, Visibility visibility, DllStorageClass dllStorageClass, IrType returnType, String name,
 	                           List<IrFunctionParameter> parameters, boolean isVariadic)
 	{
 		this.linkage = linkage;
+		this.visibility = visibility;
 		this.dllStorageClass = dllStorageClass;
 		this.returnType = returnType;
 		this.name = name;
@@ -40,40 +42,46 @@ public class IrFunctionSignature
 		this.isVariadic = isVariadic;
 	}
 
+	public IrFunctionSignature(Linkage linkage, DllStorageClass dllStorageClass, IrType returnType, String name,
+	                           List<IrFunctionParameter> parameters, boolean isVariadic)
+	{
+		this(linkage, Visibility.DEFAULT, dllStorageClass, returnType, name, parameters, isVariadic);
+	}
+
 	public IrFunctionSignature(IrType returnType, String name,
 	                           List<IrFunctionParameter> parameters, boolean isVariadic)
 	{
 		this(Linkage.NONE, DllStorageClass.NONE, returnType, name, parameters, isVariadic);
 	}
 
-	private String attributesToString()
+	@Override
+	public void write(IrWriter writer)
 	{
-		var attributes = new ArrayList<String>();
-
 		if(linkage != Linkage.NONE)
-			attributes.add(linkage.toString().toLowerCase());
+			writer.appendLowerCase(linkage).append(' ');
 
-		if(dllStorageClass != DllStorageClass.NONE)
-			attributes.add(dllStorageClass.toString().toLowerCase());
+		if(visibility != Visibility.DEFAULT)
+			writer.appendLowerCase(visibility).append(' ');
 
-		return attributes.isEmpty() ? "" : String.join(" ", attributes) + " ";
-	}
+		if(dllStorageClass != DllStorageClass.NONE)
+			writer.appendLowerCase(dllStorageClass).append(' ');
 
-	@Override
-	public String toString()
-	{
-		var params = parameters.stream()
-		                       .map(IrFunctionParameter::toString)
-		                       .collect(Collectors.joining(", "));
+		writer.append(returnType).append(" @").append(name).append('(').append(parameters, ", ");
 
 		if(isVariadic)
 		{
-			if(!params.isEmpty())
-				params += ", ";
+			if(!parameters.isEmpty())
+				writer.append(", ");
 
-			params += "...";
+			writer.append("...");
 		}
 
-		return String.format("%s%s @%s(%s)", attributesToString(), returnType, name, params);
+		writer.append(')');
+	}
+
+	@Override
+	public String toString()
+	{
+		return IrWriter.toString(this);
 	}
 }
@@ -14,6 +14,14 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
-public abstract class IrInstr
+import io.katana.compiler.backend.llvm.ir.IrWritable;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
+public abstract class IrInstr implements IrWritable
 {
+	@Override
+	public String toString()
+	{
+		return IrWriter.toString(this);
+	}
 }
@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValueSsa;
 
@@ -31,8 +32,8 @@ public class IrInstrAlloca extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("%s = alloca %s, align %s", result, type, align);
+		writer.append(result).append(" = alloca ").append(type).append(", align ").append(align);
 	}
 }
@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 import io.katana.compiler.backend.llvm.ir.value.IrValueSsa;
@@ -36,8 +37,9 @@ public class IrInstrBinary extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("%s = %s %s %s, %s", result, name, type, left, right);
+		writer.append(result).append(" = ").append(name).append(' ').append(type).append(' ');
+		writer.append(left).append(", ").append(right);
 	}
 }
@@ -15,6 +15,7 @@
 package io.katana.compiler.backend.llvm.ir.instr;
 
 import io.katana.compiler.backend.llvm.ir.IrLabel;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 
 public class IrInstrBrCond extends IrInstr
@@ -31,8 +32,9 @@ public class IrInstrBrCond extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("br i1 %s, label %s, label %s", condition, trueLabel, falseLabel);
+		writer.append("br i1 ").append(condition);
+		writer.append(", label ").append(trueLabel).append(", label ").append(falseLabel);
 	}
 }
@@ -15,6 +15,7 @@
 package io.katana.compiler.backend.llvm.ir.instr;
 
 import io.katana.compiler.backend.llvm.ir.IrLabel;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 
 public class IrInstrBrLabel extends IrInstr
 {
@@ -26,8 +27,8 @@ public class IrInstrBrLabel extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("br label %s", label);
+		writer.append("br label ").append(label);
 	}
 }
@@ -15,6 +15,7 @@
 package io.katana.compiler.backend.llvm.ir.instr;
 
 import io.katana.compiler.Inlining;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.type.IrTypeFunction;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
@@ -43,32 +44,28 @@ public class IrInstrCall extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		var builder = new StringBuilder();
-
 		if(result.isSome())
-			builder.append(String.format("%s = ", result.get()));
+			writer.append(result.get()).append(" = ");
 
-		builder.append(String.format("call %s %s(", type, function));
+		writer.append("call ").append(type).append(' ').append(function).append('(');
 
-		if(!args.isEmpty())
+		for(var i = 0; i != args.size(); ++i)
 		{
-			builder.append(String.format("%s %s", argTypes.get(0), args.get(0)));
+			if(i != 0)
+				writer.append(", ");
 
-			for(var i = 1; i != args.size(); ++i)
-				builder.append(String.format(", %s %s", argTypes.get(i), args.get(i)));
+			writer.append(argTypes.get(i)).append(' ').append(args.get(i));
 		}
 
-		builder.append(')');
+		writer.append(')');
 
-		builder.append(switch(inline)
+		writer.append(switch(inline)
 		{
 		case AUTO   -> "";
 		case ALWAYS -> " alwaysinline";
 		case NEVER  -> " noinline";
 		});
-
-		return builder.toString();
 	}
 }
@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 import io.katana.compiler.backend.llvm.ir.value.IrValueSsa;
@@ -56,8 +57,9 @@ public class IrInstrConversion extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("%s = %s %s %s to %s", result, kind.toString().toLowerCase(), sourceType, value, targetType);
+		writer.append(result).append(" = ").appendLowerCase(kind).append(' ');
+		writer.append(sourceType).append(' ').append(value).append(" to ").append(targetType);
 	}
 }
@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 import io.katana.compiler.backend.llvm.ir.value.IrValueSsa;
@@ -34,8 +35,9 @@ public class IrInstrExtractValue extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("%s = extractvalue %s %s, %s", result, compoundType, compound, index);
+		writer.append(result).append(" = extractvalue ").append(compoundType).append(' ');
+		writer.append(compound).append(", ").append(index);
 	}
 }
@@ -14,16 +14,17 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWritable;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 import io.katana.compiler.backend.llvm.ir.value.IrValueSsa;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class IrInstrGetElementPtr extends IrInstr
 {
-	public static class Index
+	public static class Index implements IrWritable
 	{
 		public final IrType type;
 		public final IrValue value;
@@ -34,10 +35,16 @@ public class IrInstrGetElementPtr extends IrInstr
 			this.value = value;
 		}
 
+		@Override
+		public void write(IrWriter writer)
+		{
+			writer.append(type).append(' ').append(value);
+		}
+
 		@Override
 		public String toString()
 		{
-			return String.format("%s %s", type, value);
+			return IrWriter.toString(this);
 		}
 	}
 
@@ -55,13 +62,9 @@ public class IrInstrGetElementPtr extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		var indicesString = indices.stream()
-		                           .map(Index::toString)
-		                           .collect(Collectors.joining(", "));
-
-		var fmt = "%s = getelementptr %s, %s* %s, %s";
-		return String.format(fmt, result, baseType, baseType, compound, indicesString);
+		writer.append(result).append(" = getelementptr ").append(baseType).append(", ");
+		writer.append(baseType).append("* ").append(compound).append(", ").append(indices, ", ");
 	}
 }
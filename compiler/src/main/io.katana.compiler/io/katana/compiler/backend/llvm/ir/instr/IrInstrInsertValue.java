@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 import io.katana.compiler.backend.llvm.ir.value.IrValueSsa;
@@ -38,9 +39,9 @@ public class IrInstrInsertValue extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		var fmt = "%s = insertvalue %s %s, %s %s, %s";
-		return String.format(fmt, result, compoundType, compound, elementType, element, index);
+		writer.append(result).append(" = insertvalue ").append(compoundType).append(' ').append(compound);
+		writer.append(", ").append(elementType).append(' ').append(element).append(", ").append(index);
 	}
 }
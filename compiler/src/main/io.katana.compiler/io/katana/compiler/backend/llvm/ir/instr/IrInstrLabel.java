@@ -14,6 +14,8 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 public class IrInstrLabel extends IrInstr
 {
 	public final String name;
@@ -24,8 +26,8 @@ public class IrInstrLabel extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return name + ':';
+		writer.append(name).append(':');
 	}
 }
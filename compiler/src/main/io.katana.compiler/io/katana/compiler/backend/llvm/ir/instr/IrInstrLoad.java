@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 import io.katana.compiler.backend.llvm.ir.value.IrValueSsa;
@@ -32,8 +33,9 @@ public class IrInstrLoad extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("%s = load %s, %s* %s", result, type, type, pointer);
+		writer.append(result).append(" = load ").append(type).append(", ");
+		writer.append(type).append("* ").append(pointer);
 	}
 }
@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.type.IrTypes;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
@@ -31,11 +32,14 @@ public class IrInstrRet extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
 		if(type == IrTypes.VOID)
-			return "ret void";
+		{
+			writer.append("ret void");
+			return;
+		}
 
-		return String.format("ret %s %s", type, value.unwrap());
+		writer.append("ret ").append(type).append(' ').append(value.unwrap());
 	}
 }
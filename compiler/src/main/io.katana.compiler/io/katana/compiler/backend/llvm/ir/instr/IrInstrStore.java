@@ -14,6 +14,7 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
 import io.katana.compiler.backend.llvm.ir.type.IrType;
 import io.katana.compiler.backend.llvm.ir.value.IrValue;
 
@@ -31,8 +32,9 @@ public class IrInstrStore extends IrInstr
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("store %s %s, %s* %s", type, value, type, pointer);
+		writer.append("store ").append(type).append(' ').append(value).append(", ");
+		writer.append(type).append("* ").append(pointer);
 	}
 }
@@ -14,11 +14,13 @@
 
 package io.katana.compiler.backend.llvm.ir.instr;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 public class IrInstrUnreachable extends IrInstr
 {
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return "unreachable";
+		writer.append("unreachable");
 	}
 }
@@ -14,6 +14,14 @@
 
 package io.katana.compiler.backend.llvm.ir.type;
 
-public abstract class IrType
+import io.katana.compiler.backend.llvm.ir.IrWritable;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
+public abstract class IrType implements IrWritable
 {
+	@Override
+	public String toString()
+	{
+		return IrWriter.toString(this);
+	}
 }
@@ -14,6 +14,8 @@
 
 package io.katana.compiler.backend.llvm.ir.type;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 public class IrTypeArray extends IrType
 {
 	public final long length;
@@ -26,8 +28,8 @@ public class IrTypeArray extends IrType
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return String.format("[%s x %s]", length, elementType);
+		writer.append('[').append(length).append(" x ").append(elementType).append(']');
 	}
 }
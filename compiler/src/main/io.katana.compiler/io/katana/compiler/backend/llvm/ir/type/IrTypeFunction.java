@@ -14,8 +14,9 @@
 
 package io.katana.compiler.backend.llvm.ir.type;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class IrTypeFunction extends IrType
 {
@@ -31,20 +32,18 @@ public class IrTypeFunction extends IrType
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		var parameterList = parameterTypes.stream()
-		                                  .map(IrType::toString)
-		                                  .collect(Collectors.joining(", "));
+		writer.append(returnType).append('(').append(parameterTypes, ", ");
 
 		if(isVariadic)
 		{
 			if(!parameterTypes.isEmpty())
-				parameterList += ", ";
+				writer.append(", ");
 
-			parameterList += "...";
+			writer.append("...");
 		}
 
-		return String.format("%s(%s)", returnType, parameterList);
+		writer.append(')');
 	}
 }
@@ -14,6 +14,8 @@
 
 package io.katana.compiler.backend.llvm.ir.type;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 public class IrTypePointer extends IrType
 {
 	public final IrType pointeeType;
@@ -24,8 +26,8 @@ public class IrTypePointer extends IrType
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return pointeeType + "*";
+		writer.append(pointeeType).append('*');
 	}
 }
@@ -14,6 +14,8 @@
 
 package io.katana.compiler.backend.llvm.ir.type;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 public class IrTypeScalar extends IrType
 {
 	public final String name;
@@ -24,8 +26,8 @@ public class IrTypeScalar extends IrType
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return name;
+		writer.append(name);
 	}
 }
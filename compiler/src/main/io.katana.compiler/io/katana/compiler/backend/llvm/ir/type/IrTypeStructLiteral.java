@@ -14,8 +14,9 @@
 
 package io.katana.compiler.backend.llvm.ir.type;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class IrTypeStructLiteral extends IrType
 {
@@ -27,12 +28,8 @@ public class IrTypeStructLiteral extends IrType
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		var fieldsString = fields.stream()
-		                         .map(IrType::toString)
-		                         .collect(Collectors.joining(", "));
-
-		return '{' + fieldsString + '}';
+		writer.append('{').append(fields, ", ").append('}');
 	}
 }
@@ -14,13 +14,17 @@
 
 package io.katana.compiler.backend.llvm.ir.type;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class IrTypes
 {
-	private static final Map<String, IrTypeScalar> SCALAR_CACHE = new HashMap<>();
-	private static final Map<IrType, IrTypePointer> POINTER_CACHE = new IdentityHashMap<>();
-	private static final Map<String, IrTypeStructIdentified> IDENTIFIED_STRUCT_CACHE = new HashMap<>();
+	// shared by all codegen threads; ir types do not override equals, so pointers are still cached by identity
+	private static final Map<String, IrTypeScalar> SCALAR_CACHE = new ConcurrentHashMap<>();
+	private static final Map<IrType, IrTypePointer> POINTER_CACHE = new ConcurrentHashMap<>();
+	private static final Map<String, IrTypeStructIdentified> IDENTIFIED_STRUCT_CACHE = new ConcurrentHashMap<>();
 
 	public static final IrTypeScalar VOID = ofScalar("void");
 
@@ -82,4 +86,12 @@ public class IrTypes
 	{
 		return new IrTypeFunction(returnType, parameterTypes, isVariadic);
 	}
+
+	// arrays, functions and literal structs are not interned, so pointers to them are never hit again by a later
+	// build. the scalars are kept, the constants above must stay the instances the cache hands out
+	public static void clearCaches()
+	{
+		POINTER_CACHE.clear();
+		IDENTIFIED_STRUCT_CACHE.clear();
+	}
 }
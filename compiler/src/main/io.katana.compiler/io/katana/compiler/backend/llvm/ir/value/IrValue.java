@@ -14,6 +14,14 @@
 
 package io.katana.compiler.backend.llvm.ir.value;
 
-public abstract class IrValue
+import io.katana.compiler.backend.llvm.ir.IrWritable;
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
+public abstract class IrValue implements IrWritable
 {
+	@Override
+	public String toString()
+	{
+		return IrWriter.toString(this);
+	}
 }
@@ -14,6 +14,8 @@
 
 package io.katana.compiler.backend.llvm.ir.value;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 public class IrValueConstant extends IrValue
 {
 	private final String value;
@@ -24,8 +26,8 @@ public class IrValueConstant extends IrValue
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return value;
+		writer.append(value);
 	}
 }
@@ -14,6 +14,8 @@
 
 package io.katana.compiler.backend.llvm.ir.value;
 
+import io.katana.compiler.backend.llvm.ir.IrWriter;
+
 public class IrValueSsa extends IrValue
 {
 	private final String name;
@@ -24,8 +26,8 @@ public class IrValueSsa extends IrValue
 	}
 
 	@Override
-	public String toString()
+	public void write(IrWriter writer)
 	{
-		return '%' + name;
+		writer.append('%').append(name);
 	}
 }
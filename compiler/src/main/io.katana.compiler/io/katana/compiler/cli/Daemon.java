@@ -0,0 +1,353 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.cli;
+
+import com.github.rvesse.airline.Cli;
+import com.github.rvesse.airline.parser.errors.ParseException;
+import io.katana.compiler.Katana;
+import io.katana.compiler.backend.llvm.ir.type.IrTypes;
+import io.katana.compiler.cli.cmd.CmdBuild;
+import io.katana.compiler.cli.cmd.CmdQuickBuild;
+import io.katana.compiler.sema.type.SemaTypeTables;
+import io.katana.compiler.utils.Hashing;
+import io.katana.compiler.utils.Maybe;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Properties;
+
+// keeps a compiler vm running, so builds neither pay for starting it nor for warming it up. requests are
+// served one at a time, with the output of the command sent back to the client as it is printed. only
+// clients that can read the info file, which holds the port and a secret token, can talk to the daemon
+public class Daemon
+{
+	static final Path INFO_FILE = Paths.get(System.getProperty("user.home"), ".katana", "daemon");
+	static final String REQUEST_RUN = "run";
+	static final String REQUEST_PING = "ping";
+	static final String REQUEST_STOP = "stop";
+	static final int FRAME_EXIT = 0;
+	static final int FRAME_OUT = 1;
+	static final int FRAME_ERR = 2;
+
+	private static final int REQUEST_TIMEOUT_MILLIS = 10_000;
+
+	// collects everything up to a flush, so that concurrently printed lines end up in separate frames
+	private static class FrameOutputStream extends OutputStream
+	{
+		private final DataOutputStream out;
+		private final int kind;
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		private FrameOutputStream(DataOutputStream out, int kind)
+		{
+			this.out = out;
+			this.kind = kind;
+		}
+
+		@Override
+		public synchronized void write(int b)
+		{
+			buffer.write(b);
+		}
+
+		@Override
+		public synchronized void write(byte[] bytes, int offset, int length)
+		{
+			buffer.write(bytes, offset, length);
+		}
+
+		@Override
+		public synchronized void flush() throws IOException
+		{
+			if(buffer.size() == 0)
+				return;
+
+			synchronized(out)
+			{
+				out.writeByte(kind);
+				out.writeInt(buffer.size());
+				buffer.writeTo(out);
+				out.flush();
+			}
+
+			buffer.reset();
+		}
+	}
+
+	private final Cli<Runnable> cli = new Cli<>(Main.class);
+	private final String token;
+	private final long maxMemory;
+
+	private Daemon(String token, long maxMemory)
+	{
+		this.token = token;
+		this.maxMemory = maxMemory;
+	}
+
+	private static String generateToken()
+	{
+		var bytes = new byte[32];
+		new SecureRandom().nextBytes(bytes);
+		return Hashing.sha256(bytes);
+	}
+
+	private static void writeInfo(int port, String token) throws IOException
+	{
+		var info = new Properties();
+		info.setProperty("port", String.valueOf(port));
+		info.setProperty("token", token);
+		info.setProperty("version", Katana.VERSION);
+		info.setProperty("home", Katana.HOME.toString());
+
+		var tmpPath = INFO_FILE.resolveSibling(INFO_FILE.getFileName() + ".tmp");
+		Files.createDirectories(INFO_FILE.getParent());
+		Files.deleteIfExists(tmpPath);
+
+		try
+		{
+			Files.createFile(tmpPath, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		}
+		catch(UnsupportedOperationException ex)
+		{
+			Files.createFile(tmpPath);
+		}
+
+		try(var stream = Files.newOutputStream(tmpPath))
+		{
+			info.store(stream, null);
+		}
+
+		Files.move(tmpPath, INFO_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	static Maybe<Properties> readInfo()
+	{
+		var info = new Properties();
+
+		try(var stream = Files.newInputStream(INFO_FILE))
+		{
+			info.load(stream);
+		}
+		catch(IOException ex)
+		{
+			return Maybe.none();
+		}
+
+		// daemons of other installations build with a different compiler
+		if(!Katana.VERSION.equals(info.getProperty("version")) || !Katana.HOME.toString().equals(info.getProperty("home")))
+			return Maybe.none();
+
+		return Maybe.some(info);
+	}
+
+	private static void deleteInfo(String token) throws IOException
+	{
+		// the file may belong to a daemon started after this one
+		var info = readInfo();
+
+		if(info.isSome() && token.equals(info.get().getProperty("token")))
+			Files.deleteIfExists(INFO_FILE);
+	}
+
+	private static Maybe<Socket> accept(ServerSocket server) throws IOException
+	{
+		try
+		{
+			return Maybe.some(server.accept());
+		}
+		catch(SocketTimeoutException ex)
+		{
+			return Maybe.none();
+		}
+	}
+
+	private int execute(Path workingDir, String[] args)
+	{
+		try
+		{
+			var command = cli.parse(args);
+
+			if(command instanceof CmdBuild)
+				((CmdBuild)command).workingDir = workingDir;
+			else if(command instanceof CmdQuickBuild)
+				((CmdQuickBuild)command).workingDir = workingDir;
+			else
+			{
+				System.err.println("the daemon only runs build and quickbuild");
+				return 1;
+			}
+
+			command.run();
+			return 0;
+		}
+		catch(ExitException ex)
+		{
+			return ex.status;
+		}
+		catch(ParseException ex)
+		{
+			System.err.println(ex.getMessage());
+			return 1;
+		}
+		catch(RuntimeException ex)
+		{
+			ex.printStackTrace();
+			return 1;
+		}
+	}
+
+	private int execute(Path workingDir, String[] args, DataOutputStream out)
+	{
+		var stdout = System.out;
+		var stderr = System.err;
+
+		System.setOut(new PrintStream(new FrameOutputStream(out, FRAME_OUT), true));
+		System.setErr(new PrintStream(new FrameOutputStream(out, FRAME_ERR), true));
+
+		try
+		{
+			return execute(workingDir, args);
+		}
+		finally
+		{
+			// interned types are keyed by this build's declarations, so they are of no use to the next request
+			SemaTypeTables.clear();
+			IrTypes.clearCaches();
+
+			System.out.flush();
+			System.err.flush();
+			System.setOut(stdout);
+			System.setErr(stderr);
+		}
+	}
+
+	// returns false once the daemon is asked to stop
+	private boolean serve(Socket socket) throws IOException
+	{
+		socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+
+		var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+		if(!in.readUTF().equals(token))
+			return true;
+
+		var request = in.readUTF();
+		var status = 0;
+
+		if(request.equals(REQUEST_RUN))
+		{
+			var workingDir = Paths.get(in.readUTF());
+			var args = new String[in.readInt()];
+
+			for(var i = 0; i != args.length; ++i)
+				args[i] = in.readUTF();
+
+			System.out.printf("[daemon] Running in %s: %s\n", workingDir, String.join(" ", args));
+			status = execute(workingDir, args, out);
+		}
+
+		synchronized(out)
+		{
+			out.writeByte(FRAME_EXIT);
+			out.writeInt(status);
+			out.flush();
+		}
+
+		return !request.equals(REQUEST_STOP);
+	}
+
+	private boolean serveSafely(Socket socket)
+	{
+		try(socket)
+		{
+			return serve(socket);
+		}
+		catch(IOException ex)
+		{
+			// e.g. a client that went away, the next one is served regardless
+			System.err.printf("[daemon] Request failed: %s\n", ex.getMessage());
+			return true;
+		}
+	}
+
+	private static long usedMemory()
+	{
+		var runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private boolean exceedsMemoryLimit()
+	{
+		if(usedMemory() <= maxMemory)
+			return false;
+
+		System.gc();
+		return usedMemory() > maxMemory;
+	}
+
+	public static void run(Duration idleTimeout, long maxMemory) throws IOException
+	{
+		var daemon = new Daemon(generateToken(), maxMemory);
+
+		try(var server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress()))
+		{
+			server.setSoTimeout((int)Math.min(idleTimeout.toMillis(), Integer.MAX_VALUE));
+			writeInfo(server.getLocalPort(), daemon.token);
+			System.out.printf("[daemon] Listening on port %s\n", server.getLocalPort());
+
+			try
+			{
+				for(;;)
+				{
+					var socket = accept(server);
+
+					if(socket.isNone())
+					{
+						System.out.println("[daemon] Idle timeout reached, shutting down.");
+						return;
+					}
+
+					if(!daemon.serveSafely(socket.get()))
+					{
+						System.out.println("[daemon] Stopped.");
+						return;
+					}
+
+					// everything held onto is only released with the vm
+					if(daemon.exceedsMemoryLimit())
+					{
+						System.out.println("[daemon] Memory limit exceeded, shutting down.");
+						return;
+					}
+				}
+			}
+			finally
+			{
+				deleteInfo(daemon.token);
+			}
+		}
+	}
+}
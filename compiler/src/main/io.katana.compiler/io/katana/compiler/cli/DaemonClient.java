@@ -0,0 +1,125 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.cli;
+
+import io.katana.compiler.utils.Maybe;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+
+public class DaemonClient
+{
+	private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+
+	private static Maybe<Socket> connect(Properties info)
+	{
+		var socket = new Socket();
+
+		try
+		{
+			var port = Integer.parseInt(info.getProperty("port"));
+			socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT_MILLIS);
+			return Maybe.some(socket);
+		}
+		catch(IOException | IllegalArgumentException ex)
+		{
+			// a daemon that is gone without cleaning up after itself
+			try
+			{
+				socket.close();
+			}
+			catch(IOException ignored)
+			{}
+
+			return Maybe.none();
+		}
+	}
+
+	private static int receive(DataInputStream in) throws IOException
+	{
+		for(;;)
+		{
+			var kind = in.readByte();
+
+			if(kind == Daemon.FRAME_EXIT)
+				return in.readInt();
+
+			var bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+
+			var stream = kind == Daemon.FRAME_ERR ? System.err : System.out;
+			stream.write(bytes);
+			stream.flush();
+		}
+	}
+
+	private static Maybe<Integer> send(String request, List<String> args)
+	{
+		var info = Daemon.readInfo();
+
+		if(info.isNone())
+			return Maybe.none();
+
+		var socket = connect(info.get());
+
+		if(socket.isNone())
+			return Maybe.none();
+
+		try(var s = socket.get())
+		{
+			var out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+			out.writeUTF(info.get().getProperty("token"));
+			out.writeUTF(request);
+
+			if(request.equals(Daemon.REQUEST_RUN))
+			{
+				out.writeUTF(Paths.get("").toAbsolutePath().toString());
+				out.writeInt(args.size());
+
+				for(var arg : args)
+					out.writeUTF(arg);
+			}
+
+			out.flush();
+			return Maybe.some(receive(new DataInputStream(new BufferedInputStream(s.getInputStream()))));
+		}
+		catch(IOException ex)
+		{
+			System.err.printf("lost connection to the daemon: %s\n", ex.getMessage());
+			return Maybe.some(1);
+		}
+	}
+
+	// none if there is no daemon to run the command, in which case it has to run locally
+	public static Maybe<Integer> forward(String[] args)
+	{
+		return send(Daemon.REQUEST_RUN, List.of(args));
+	}
+
+	public static boolean isRunning()
+	{
+		return send(Daemon.REQUEST_PING, List.of()).isSome();
+	}
+
+	public static boolean stop()
+	{
+		return send(Daemon.REQUEST_STOP, List.of()).isSome();
+	}
+}
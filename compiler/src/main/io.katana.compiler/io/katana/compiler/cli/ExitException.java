@@ -0,0 +1,27 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.cli;
+
+// commands end with this rather than System.exit, as they also run inside the daemon
+public class ExitException extends RuntimeException
+{
+	public final int status;
+
+	public ExitException(int status)
+	{
+		super(null, null, false, false);
+		this.status = status;
+	}
+}
@@ -18,19 +18,33 @@ import com.github.rvesse.airline.Cli;
 import com.github.rvesse.airline.help.Help;
 import com.github.rvesse.airline.parser.errors.ParseException;
 import io.katana.compiler.cli.cmd.CmdBuild;
+import io.katana.compiler.cli.cmd.CmdDaemon;
 import io.katana.compiler.cli.cmd.CmdInit;
 import io.katana.compiler.cli.cmd.CmdQuickBuild;
 import io.katana.compiler.cli.cmd.CmdVersion;
 
+import java.util.Set;
+
 @com.github.rvesse.airline.annotations.Cli(
 	name = "katana",
 	description = "Katana compiler",
 	defaultCommand = Help.class,
-	commands = {CmdBuild.class, CmdInit.class, CmdQuickBuild.class, CmdVersion.class})
+	commands = {CmdBuild.class, CmdDaemon.class, CmdInit.class, CmdQuickBuild.class, CmdVersion.class})
 public class Main
 {
+	private static final Set<String> DAEMON_COMMANDS = Set.of("build", "quickbuild");
+
 	public static void main(String[] args)
 	{
+		// checked before anything else is loaded, forwarding to a running daemon is all that is left to do then
+		if(args.length != 0 && DAEMON_COMMANDS.contains(args[0]))
+		{
+			var status = DaemonClient.forward(args);
+
+			if(status.isSome())
+				System.exit(status.get());
+		}
+
 		var cli = new Cli<Runnable>(Main.class);
 
 		try
@@ -42,5 +56,9 @@ public class Main
 			System.err.println(ex.getMessage());
 			System.exit(1);
 		}
+		catch(ExitException ex)
+		{
+			System.exit(ex.status);
+		}
 	}
 }
@@ -18,6 +18,8 @@ import com.github.rvesse.airline.annotations.Arguments;
 import com.github.rvesse.airline.annotations.Command;
 import com.github.rvesse.airline.annotations.Option;
 import io.katana.compiler.backend.PlatformContext;
+import io.katana.compiler.backend.llvm.Partitioning;
+import io.katana.compiler.cli.ExitException;
 import io.katana.compiler.diag.CompileException;
 import io.katana.compiler.diag.DiagnosticsManager;
 import io.katana.compiler.platform.TargetTriple;
@@ -48,18 +50,36 @@ public class CmdBuild implements Runnable
 	@Option(name = {"-Bm", "--print-build-metrics"}, description = "Print build metrics")
 	public boolean printBuildMetrics;
 
+	@Option(name = {"-Bnc", "--no-cache"}, description = "Do not reuse results of previous builds")
+	public boolean noCache;
+
+	@Option(name = {"-Bcd", "--cache-dir"}, description = "Directory of the object cache shared between builds")
+	public String cacheDir;
+
+	@Option(name = {"-Bcs", "--cache-size"}, description = "Maximum size of the object cache in MiB")
+	public Long cacheSize;
+
+	@Option(name = {"-Bpt", "--partitions"}, description = "Split Katana code into several LLVM modules: 'none', 'module' or a partition count")
+	public String partitions;
+
 	@Option(name = {"-Bp", "--build-profiles"}, description = "Build profiles")
 	public List<String> profiles;
 
+	@Option(name = {"-j", "--jobs"}, description = "Number of compiler processes to run concurrently")
+	public Integer jobs;
+
 	@Option(name = {"-Dt", "--diagnostic-traces"}, description = "Stack traces in diagnostics")
 	public boolean diagnosticTraces;
 
+	// differs from the working directory of the vm when run by the daemon
+	public Path workingDir = Paths.get("").toAbsolutePath();
+
 	private Path determineProjectRoot() throws IOException
 	{
 		if(projectDir != null)
-			return Paths.get(projectDir).toRealPath();
+			return workingDir.resolve(projectDir).toRealPath();
 
-		var result = ProjectManager.locateProjectRoot();
+		var result = ProjectManager.locateProjectRoot(workingDir);
 
 		if(result != null)
 			return result;
@@ -70,17 +90,19 @@ public class CmdBuild implements Runnable
 	private Path determineBuildRoot(Path projectRoot) throws IOException
 	{
 		if(buildDir != null)
-			return Paths.get(buildDir).toAbsolutePath().normalize();
+			return workingDir.resolve(buildDir).normalize();
 
 		if(projectDir == null)
 			return projectRoot.resolve("build");
 
-		return Paths.get("").toRealPath();
+		return workingDir.toRealPath();
 	}
 
 	@Override
 	public void run()
 	{
+		CompileException.enableStackTraces(diagnosticTraces);
+
 		try
 		{
 			var projectRoot = determineProjectRoot();
@@ -111,12 +133,35 @@ public class CmdBuild implements Runnable
 
 			var options = new BuildOptions();
 			options.printBuildMetrics = printBuildMetrics;
+			options.useCaches = !noCache;
+
+			if(jobs != null)
+			{
+				if(jobs < 1)
+					throw new CompileException("the number of jobs must be at least 1");
+
+				options.jobs = jobs;
+			}
+
+			if(cacheDir != null)
+				options.objectCacheDir = workingDir.resolve(cacheDir).normalize();
+
+			if(cacheSize != null)
+				options.objectCacheSize = cacheSize * 1024 * 1024;
+
+			if(partitions != null)
+				options.partitioning = Partitioning.parse(partitions);
+
 			ProjectBuilder.buildTargets(diag, projectRoot, buildRoot, targets, context, options);
 		}
 		catch(CompileException ex)
 		{
-			System.err.println(ex.getMessage());
-			System.exit(1);
+			if(diagnosticTraces)
+				ex.printStackTrace();
+			else
+				System.err.println(ex.getMessage());
+
+			throw new ExitException(1);
 		}
 		catch(IOException ex)
 		{
@@ -125,7 +170,7 @@ public class CmdBuild implements Runnable
 			else
 				System.err.println(ex.getClass().getName() + ": " + ex.getMessage());
 
-			System.exit(1);
+			throw new ExitException(1);
 		}
 	}
 }
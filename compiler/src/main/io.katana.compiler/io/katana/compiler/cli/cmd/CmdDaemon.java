@@ -0,0 +1,76 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.cli.cmd;
+
+import com.github.rvesse.airline.annotations.Command;
+import com.github.rvesse.airline.annotations.Option;
+import io.katana.compiler.cli.Daemon;
+import io.katana.compiler.cli.DaemonClient;
+import io.katana.compiler.cli.ExitException;
+import io.katana.compiler.diag.CompileException;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Command(name = "daemon", description = "Keep a compiler running that build and quickbuild are forwarded to, using the daemon's environment")
+public class CmdDaemon implements Runnable
+{
+	@Option(name = {"-t", "--idle-timeout"}, description = "Minutes without requests after which the daemon exits")
+	public Integer idleTimeout;
+
+	@Option(name = {"-m", "--max-memory"}, description = "Heap usage in MiB above which the daemon exits after a request")
+	public Long maxMemory;
+
+	@Option(name = {"--stop"}, description = "Stop the running daemon")
+	public boolean stop;
+
+	@Override
+	public void run()
+	{
+		try
+		{
+			if(stop)
+			{
+				if(!DaemonClient.stop())
+					throw new CompileException("no daemon is running");
+
+				return;
+			}
+
+			if(DaemonClient.isRunning())
+				throw new CompileException("a daemon is already running");
+
+			if(idleTimeout != null && idleTimeout < 1)
+				throw new CompileException("the idle timeout must be at least 1 minute");
+
+			if(maxMemory != null && maxMemory < 1)
+				throw new CompileException("the memory limit must be at least 1 MiB");
+
+			var timeout = Duration.ofMinutes(idleTimeout == null ? 180 : idleTimeout);
+			var memory = maxMemory == null ? Runtime.getRuntime().maxMemory() / 4 * 3 : maxMemory * 1024 * 1024;
+			Daemon.run(timeout, memory);
+		}
+		catch(CompileException ex)
+		{
+			System.err.println(ex.getMessage());
+			throw new ExitException(1);
+		}
+		catch(IOException ex)
+		{
+			System.err.println(ex.getClass().getName() + ": " + ex.getMessage());
+			throw new ExitException(1);
+		}
+	}
+}
@@ -18,6 +18,7 @@ import com.github.rvesse.airline.annotations.Arguments;
 import com.github.rvesse.airline.annotations.Command;
 import com.github.rvesse.airline.annotations.Option;
 import io.katana.compiler.backend.PlatformContext;
+import io.katana.compiler.cli.ExitException;
 import io.katana.compiler.diag.CompileException;
 import io.katana.compiler.diag.DiagnosticsManager;
 import io.katana.compiler.platform.TargetTriple;
@@ -40,9 +41,15 @@ public class CmdQuickBuild implements Runnable
 	@Option(name = {"-Bm", "--print-build-metrics"}, description = "Print build metrics")
 	public boolean printBuildMetrics;
 
+	@Option(name = {"-j", "--jobs"}, description = "Number of compiler processes to run concurrently")
+	public Integer jobs;
+
 	@Option(name = {"-Dt", "--diagnostic-traces"}, description = "Stack traces in diagnostics")
 	public boolean diagnosticTraces;
 
+	// differs from the working directory of the vm when run by the daemon
+	public Path workingDir = Paths.get("").toAbsolutePath();
+
 	private static Map<FileType, Set<Path>> fileNamesToSourceFiles(List<String> fileNames)
 	{
 		Map<FileType, Set<Path>> result = new EnumMap<>(FileType.class);
@@ -64,6 +71,8 @@ public class CmdQuickBuild implements Runnable
 	@Override
 	public void run()
 	{
+		CompileException.enableStackTraces(diagnosticTraces);
+
 		if(fileNames.isEmpty())
 			throw new CompileException("at least one file required");
 
@@ -81,9 +90,17 @@ public class CmdQuickBuild implements Runnable
 		var options = new BuildOptions();
 		options.printBuildMetrics = printBuildMetrics;
 
+		if(jobs != null)
+		{
+			if(jobs < 1)
+				throw new CompileException("the number of jobs must be at least 1");
+
+			options.jobs = jobs;
+		}
+
 		try
 		{
-			var rootDir = Paths.get("").toAbsolutePath();
+			var rootDir = workingDir;
 			var buildDir = Files.createTempDirectory("katana");
 
 			try
@@ -103,12 +120,12 @@ public class CmdQuickBuild implements Runnable
 			else
 				System.err.println(ex.getMessage());
 
-			System.exit(1);
+			throw new ExitException(1);
 		}
 		catch(IOException ex)
 		{
 			ex.printStackTrace();
-			System.exit(1);
+			throw new ExitException(1);
 		}
 	}
 }
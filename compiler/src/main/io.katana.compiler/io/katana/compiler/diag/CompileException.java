@@ -16,8 +16,17 @@ package io.katana.compiler.diag;
 
 public class CompileException extends RuntimeException
 {
+	// sema throws and catches these routinely while matching overloads,
+	// so only pay for a stack trace when it is going to be printed
+	private static volatile boolean stackTraces = false;
+
 	public CompileException(String message)
 	{
-		super(message);
+		super(message, null, false, stackTraces);
+	}
+
+	public static void enableStackTraces(boolean enable)
+	{
+		stackTraces = enable;
 	}
 }
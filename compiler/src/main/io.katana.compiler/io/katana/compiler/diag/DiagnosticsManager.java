@@ -30,6 +30,17 @@ public class DiagnosticsManager
 		this.stackTraces = stackTraces;
 	}
 
+	// a separate buffer for work that runs concurrently, see merge
+	public DiagnosticsManager fork()
+	{
+		return new DiagnosticsManager(stackTraces);
+	}
+
+	public void merge(DiagnosticsManager other)
+	{
+		diagnostics.addAll(other.diagnostics);
+	}
+
 	private Maybe<StackTrace> buildStackTrace()
 	{
 		if(!stackTraces)
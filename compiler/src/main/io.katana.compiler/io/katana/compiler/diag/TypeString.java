@@ -19,6 +19,8 @@ import io.katana.compiler.analysis.Types;
 import io.katana.compiler.sema.type.*;
 import io.katana.compiler.visitor.IVisitor;
 
+import java.util.stream.Collectors;
+
 @SuppressWarnings("unused")
 public class TypeString extends IVisitor<String>
 {
@@ -31,27 +33,27 @@ public class TypeString extends IVisitor<String>
 		return INSTANCE.invokeSelf(type);
 	}
 
-	private String visit(SemaTypeStruct type)
+	String visit(SemaTypeStruct type)
 	{
 		return type.decl.qualifiedName().toString();
 	}
 
-	private String visit(SemaTypeConst type)
+	String visit(SemaTypeConst type)
 	{
 		return String.format("const %s", of(type.nestedType));
 	}
 
-	private String visit(SemaTypeSlice type)
+	String visit(SemaTypeSlice type)
 	{
 		return String.format("[]%s", of(type.elementType));
 	}
 
-	private String visit(SemaTypeArray type)
+	String visit(SemaTypeArray type)
 	{
 		return String.format("[%s]%s", type.length, of(type.elementType));
 	}
 
-	private String visit(SemaTypeBuiltin type)
+	String visit(SemaTypeBuiltin type)
 	{
 		if(type.which == BuiltinType.NULL)
 			return "<null-type>";
@@ -59,7 +61,7 @@ public class TypeString extends IVisitor<String>
 		return type.which.toString().toLowerCase();
 	}
 
-	private String visit(SemaTypeFunction type)
+	String visit(SemaTypeFunction type)
 	{
 		var params = new StringBuilder();
 
@@ -86,12 +88,21 @@ public class TypeString extends IVisitor<String>
 		return String.format("fn(%s)%s", params, ret);
 	}
 
-	private String visit(SemaTypeNullablePointer type)
+	String visit(SemaTypeTuple type)
+	{
+		var fields = type.fieldTypes.stream()
+		                            .map(TypeString::of)
+		                            .collect(Collectors.joining(", "));
+
+		return String.format("{%s}", fields);
+	}
+
+	String visit(SemaTypeNullablePointer type)
 	{
 		return String.format("?%s", of(type.pointeeType));
 	}
 
-	private String visit(SemaTypeNonNullablePointer type)
+	String visit(SemaTypeNonNullablePointer type)
 	{
 		return String.format("!%s", of(type.pointeeType));
 	}
@@ -0,0 +1,34 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.incremental;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+public class FunctionRecord implements Serializable
+{
+	public final String fingerprint;
+	public final Map<String, String> dependencies;
+	public String ir;
+	public int instructionCount;
+	public List<String> strings;
+
+	public FunctionRecord(String fingerprint, Map<String, String> dependencies)
+	{
+		this.fingerprint = fingerprint;
+		this.dependencies = dependencies;
+	}
+}
@@ -0,0 +1,108 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.incremental;
+
+import io.katana.compiler.utils.Maybe;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// function definitions are only validated and generated again if their own source or the interface of
+// anything they depend on, directly or transitively, changed since the previous build; everything else
+// reuses the code generated back then. the state is discarded if the build configuration changed
+public class IncrementalState
+{
+	private static class Snapshot implements Serializable
+	{
+		private final String configuration;
+		private final Map<String, FunctionRecord> functions;
+
+		private Snapshot(String configuration, Map<String, FunctionRecord> functions)
+		{
+			this.configuration = configuration;
+			this.functions = functions;
+		}
+	}
+
+	private final String configuration;
+	private final Map<String, FunctionRecord> previous;
+	private final Map<String, FunctionRecord> current = new ConcurrentHashMap<>();
+
+	private IncrementalState(String configuration, Map<String, FunctionRecord> previous)
+	{
+		this.configuration = configuration;
+		this.previous = previous;
+	}
+
+	public static IncrementalState load(Path path, String configuration)
+	{
+		if(!Files.exists(path))
+			return new IncrementalState(configuration, Map.of());
+
+		try(var stream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path))))
+		{
+			var snapshot = (Snapshot)stream.readObject();
+
+			if(snapshot.configuration.equals(configuration))
+				return new IncrementalState(configuration, snapshot.functions);
+		}
+		catch(IOException | ClassNotFoundException | ClassCastException ex)
+		{}
+
+		return new IncrementalState(configuration, Map.of());
+	}
+
+	public void store(Path path) throws IOException
+	{
+		var tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+		try(var stream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpPath))))
+		{
+			stream.writeObject(new Snapshot(configuration, Map.copyOf(current)));
+		}
+
+		Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	// carries the previous record over if neither the function nor any of its dependencies changed
+	public boolean reuse(String function, String fingerprint, Map<String, String> fingerprints)
+	{
+		var record = previous.get(function);
+
+		if(record == null || record.ir == null || !record.fingerprint.equals(fingerprint))
+			return false;
+
+		for(var dependency : record.dependencies.entrySet())
+			if(!dependency.getValue().equals(fingerprints.get(dependency.getKey())))
+				return false;
+
+		current.put(function, record);
+		return true;
+	}
+
+	public void record(String function, FunctionRecord record)
+	{
+		current.put(function, record);
+	}
+
+	public Maybe<FunctionRecord> get(String function)
+	{
+		return Maybe.wrap(current.get(function));
+	}
+}
@@ -14,7 +14,9 @@
 
 package io.katana.compiler.op;
 
-public class Operator
+import java.io.Serializable;
+
+public class Operator implements Serializable
 {
 	public String symbol;
 	public Kind kind;
@@ -22,39 +22,32 @@ import io.katana.compiler.sema.scope.SemaScopeFile;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class OperatorParser
 {
 	private static List<SemaDeclOperator> parseOpSeq(SemaScopeFile scope, String seq, Kind kind)
 	{
+		var trie = scope.operators(kind);
 		var result = new ArrayList<SemaDeclOperator>();
 
-		while(!seq.isEmpty())
+		for(var begin = 0; begin != seq.length();)
 		{
-			var builder = new StringBuilder();
-			builder.append(seq);
+			var end = trie.longestMatch(seq, begin);
 
-			while(builder.length() != 0)
+			if(end == begin)
+				throw new CompileException(String.format("operator '%s' could not be found", seq.substring(begin)));
+
+			var decls = trie.find(seq, begin, end);
+
+			if(decls.size() > 1)
 			{
-				var op = builder.toString();
-				var symbols = scope.find(Operator.declName(op, kind));
-
-				if(symbols.size() == 1)
-				{
-					result.add((SemaDeclOperator)symbols.get(0));
-					seq = seq.substring(op.length());
-					break;
-				}
-				else if(symbols.size() > 1)
-					throw new CompileException(String.format("multiple definitions for operator '%s %s'", kind.toString().toLowerCase(), op));
-
-				builder.deleteCharAt(builder.length() - 1);
+				var fmt = "multiple definitions for operator '%s %s'";
+				throw new CompileException(String.format(fmt, kind.toString().toLowerCase(), seq.substring(begin, end)));
 			}
 
-			if(builder.length() == 0)
-				throw new CompileException(String.format("operator '%s' could not be found", seq));
+			result.add(decls.get(0));
+			begin = end;
 		}
 
 		return result;
@@ -74,14 +67,14 @@ public class OperatorParser
 		return new AstExprOpPrefix(expr, decl);
 	}
 
-	private static void replacePrefixOpSeq(AstExprOpPrefixSeq seq, Consumer<AstExpr> replace, SemaScopeFile scope)
+	private static void replacePrefixOpSeq(AstExprOpPrefixSeq seq, AstExprProxy proxy, SemaScopeFile scope)
 	{
 		var ops = parseOpSeq(scope, seq.symbols, Kind.PREFIX);
 
 		for(var i = ops.size() - 1; i != -1; --i)
 			seq.nestedExpr = createPrefixOp(seq.nestedExpr, ops.get(i));
 
-		replace.accept(seq.nestedExpr);
+		proxy.nestedExpr = seq.nestedExpr;
 	}
 
 	private static AstExpr createPostfixOp(AstExpr expr, SemaDeclOperator decl)
@@ -89,23 +82,24 @@ public class OperatorParser
 		return new AstExprOpPostfix(expr, decl);
 	}
 
-	private static void replacePostfixOpSeq(AstExprOpPostfixSeq seq, Consumer<AstExpr> replace, SemaScopeFile scope)
+	private static void replacePostfixOpSeq(AstExprOpPostfixSeq seq, AstExprProxy proxy, SemaScopeFile scope)
 	{
 		var ops = parseOpSeq(scope, seq.symbols, Kind.POSTFIX);
 
 		for(var i = 0; i != ops.size(); ++i)
 			seq.nestedExpr = createPostfixOp(seq.nestedExpr, ops.get(i));
 
-		replace.accept(seq.nestedExpr);
+		proxy.nestedExpr = seq.nestedExpr;
 	}
 
 	private static List<SemaDeclOperator> findInfixOperators(SemaScopeFile scope, List<String> symbols)
 	{
+		var trie = scope.operators(Kind.INFIX);
 		var operators = new ArrayList<SemaDeclOperator>();
 
 		for(var symbol : symbols)
 		{
-			var candidates = scope.find(Operator.declName(symbol, Kind.INFIX));
+			var candidates = trie.find(symbol);
 
 			if(candidates.isEmpty())
 				throw new CompileException(String.format("operator 'infix %s' could not be found", symbol));
@@ -113,7 +107,7 @@ public class OperatorParser
 			if(candidates.size() > 1)
 				throw new CompileException(String.format("multiple definitions for operator 'infix %s'", symbol));
 
-			operators.add((SemaDeclOperator)candidates.get(0));
+			operators.add(candidates.get(0));
 		}
 
 		return operators;
@@ -238,7 +232,7 @@ public class OperatorParser
 		return result;
 	}
 
-	private static void replaceInfixOpList(AstExprOpInfixList list, Consumer<AstExpr> replace, SemaScopeFile scope)
+	private static void replaceInfixOpList(AstExprOpInfixList list, AstExprProxy proxy, SemaScopeFile scope)
 	{
 		var ops = findInfixOperators(scope, list.infixOps);
 		var expr = new ArrayList<>();
@@ -252,18 +246,18 @@ public class OperatorParser
 		expr.add(list.nestedExprs.get(list.nestedExprs.size() - 1));
 
 		var replacement = parse(expr);
-		replace.accept(replacement);
+		proxy.nestedExpr = replacement;
 	}
 
 	public static void replace(LateParseExprs list, SemaScopeFile scope)
 	{
-		for(var entry : list.prefixSeqs.entrySet())
-			replacePrefixOpSeq(entry.getKey(), entry.getValue(), scope);
+		for(var entry : list.prefixSeqs)
+			replacePrefixOpSeq(entry.expr, entry.proxy, scope);
 
-		for(var entry : list.postfixSeqs.entrySet())
-			replacePostfixOpSeq(entry.getKey(), entry.getValue(), scope);
+		for(var entry : list.postfixSeqs)
+			replacePostfixOpSeq(entry.expr, entry.proxy, scope);
 
-		for(var entry : list.infixLists.entrySet())
-			replaceInfixOpList(entry.getKey(), entry.getValue(), scope);
+		for(var entry : list.infixLists)
+			replaceInfixOpList(entry.expr, entry.proxy, scope);
 	}
 }
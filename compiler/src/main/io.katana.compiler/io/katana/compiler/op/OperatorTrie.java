@@ -0,0 +1,111 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.op;
+
+import io.katana.compiler.sema.decl.SemaDeclOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class OperatorTrie
+{
+	private static class Node
+	{
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		private final List<SemaDeclOperator> decls = new ArrayList<>();
+
+		private Node child(char c)
+		{
+			for(var i = 0; i != keys.length; ++i)
+				if(keys[i] == c)
+					return children[i];
+
+			return null;
+		}
+
+		private Node findOrCreateChild(char c)
+		{
+			var child = child(c);
+
+			if(child != null)
+				return child;
+
+			child = new Node();
+			keys = Arrays.copyOf(keys, keys.length + 1);
+			children = Arrays.copyOf(children, children.length + 1);
+			keys[keys.length - 1] = c;
+			children[children.length - 1] = child;
+			return child;
+		}
+	}
+
+	public static final OperatorTrie EMPTY = new OperatorTrie();
+
+	private final Node root = new Node();
+
+	public void add(SemaDeclOperator decl)
+	{
+		var node = root;
+
+		for(var c : decl.operator.symbol.toCharArray())
+			node = node.findOrCreateChild(c);
+
+		node.decls.add(decl);
+	}
+
+	private Node walk(String seq, int begin, int end)
+	{
+		var node = root;
+
+		for(var i = begin; i != end && node != null; ++i)
+			node = node.child(seq.charAt(i));
+
+		return node;
+	}
+
+	public List<SemaDeclOperator> find(String seq, int begin, int end)
+	{
+		var node = walk(seq, begin, end);
+		return node == null ? Collections.emptyList() : node.decls;
+	}
+
+	public List<SemaDeclOperator> find(String symbol)
+	{
+		return find(symbol, 0, symbol.length());
+	}
+
+	// returns the end of the longest operator in seq starting at begin, or begin if there is none
+	public int longestMatch(String seq, int begin)
+	{
+		var node = root;
+		var result = begin;
+
+		for(var i = begin; i != seq.length(); ++i)
+		{
+			node = node.child(seq.charAt(i));
+
+			if(node == null)
+				break;
+
+			if(!node.decls.isEmpty())
+				result = i + 1;
+		}
+
+		return result;
+	}
+}
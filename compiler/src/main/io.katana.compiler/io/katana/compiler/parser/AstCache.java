@@ -0,0 +1,101 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.parser;
+
+import io.katana.compiler.ast.AstFile;
+import io.katana.compiler.scanner.SourceFile;
+import io.katana.compiler.utils.Hashing;
+import io.katana.compiler.utils.Maybe;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// parsed files are stored per source path together with the hash of the contents they were parsed from,
+// so that the cache holds at most one entry per file and stale entries are replaced rather than piling up
+public class AstCache
+{
+	private static final String ENTRY_EXTENSION = ".ast";
+
+	private final Path dir;
+	private final String version;
+
+	// entries are only used by the compiler version that wrote them
+	public AstCache(Path dir, String version) throws IOException
+	{
+		Files.createDirectories(dir);
+		this.dir = dir;
+		this.version = version;
+	}
+
+	private Path entryPath(SourceFile file)
+	{
+		return dir.resolve(Hashing.sha256(file.path().toString()) + ENTRY_EXTENSION);
+	}
+
+	private String key(SourceFile file)
+	{
+		return version + ":" + file.digest();
+	}
+
+	public Maybe<AstFile> load(SourceFile file)
+	{
+		var path = entryPath(file);
+
+		if(!Files.exists(path))
+			return Maybe.none();
+
+		try(var stream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path))))
+		{
+			if(!stream.readUTF().equals(key(file)))
+				return Maybe.none();
+
+			return Maybe.some((AstFile)stream.readObject());
+		}
+		catch(IOException | ClassNotFoundException | ClassCastException ex)
+		{
+			// unreadable entries, e.g. written by a compiler with different ast classes, are simply replaced
+			return Maybe.none();
+		}
+	}
+
+	public void store(SourceFile file, AstFile ast)
+	{
+		var path = entryPath(file);
+		var tmpPath = path.resolveSibling(path.getFileName() + "." + ProcessHandle.current().pid() + "." + Thread.currentThread().getId() + ".tmp");
+
+		try
+		{
+			try(var stream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpPath))))
+			{
+				stream.writeUTF(key(file));
+				stream.writeObject(ast);
+			}
+
+			Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(IOException ex)
+		{
+			// the cache is only an optimization, the file will be parsed again next time
+			try
+			{
+				Files.deleteIfExists(tmpPath);
+			}
+			catch(IOException ignored)
+			{}
+		}
+	}
+}
@@ -51,15 +51,15 @@ public class DeclParser
 			Maybe<String> externName = Maybe.none();
 
 			if(ParseTools.option(ctx, TokenType.LIT_STRING, false))
-				externName = Maybe.some((String)ParseTools.consume(ctx).value);
+				externName = Maybe.some((String)ParseTools.consume(ctx));
 
 			extern = Maybe.some(externName);
 		}
 
-		if(extern.isSome() && ctx.token().type != TokenType.KW_FN)
+		if(extern.isSome() && ctx.tokenType() != TokenType.KW_FN)
 			throw new CompileException("extern can only be applied to overloads");
 
-		return switch(ctx.token().type)
+		return switch(ctx.tokenType())
 		{
 		case KW_FN       -> parseFunction(ctx, exportKind, extern);
 		case KW_DATA     -> parseStruct(ctx, exportKind);
@@ -95,7 +95,7 @@ public class DeclParser
 	{
 		ctx.advance();
 
-		var op = (String)ParseTools.consumeExpected(ctx, TokenCategory.OP).value;
+		var op = (String)ParseTools.consumeExpected(ctx, TokenCategory.OP);
 		var kind = parseOpKind(ctx);
 
 		if(BuiltinOps.find(op, kind).isSome())
@@ -129,7 +129,7 @@ public class DeclParser
 			throw new AssertionError("unreachable");
 		}
 
-		var precedence = (BigInteger)ParseTools.consumeExpected(ctx, TokenType.LIT_INT_DEDUCE).value;
+		var precedence = (BigInteger)ParseTools.consumeExpected(ctx, TokenType.LIT_INT_DEDUCE);
 
 		// precedence < 0 || precedence > 1000
 		if(precedence.compareTo(BigInteger.ZERO) == -1 || precedence.compareTo(BigInteger.valueOf(1000)) == 1)
@@ -152,7 +152,7 @@ public class DeclParser
 
 		if(ParseTools.option(ctx, TokenCategory.OP, false))
 		{
-			op = (String)ParseTools.consume(ctx).value;
+			op = (String)ParseTools.consume(ctx);
 			kind = parseOpKind(ctx);
 
 			if(BuiltinOps.find(op, kind).isSome())
@@ -162,7 +162,7 @@ public class DeclParser
 			}
 		}
 		else
-			name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+			name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 
 		var params = parseParameterList(ctx);
 
@@ -219,7 +219,7 @@ public class DeclParser
 	private static AstDeclFunction.Param parseParameter(ParseContext ctx)
 	{
 		var type = TypeParser.parse(ctx);
-		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 		return new AstDeclFunction.Param(type, name);
 	}
 
@@ -241,7 +241,7 @@ public class DeclParser
 	{
 		ctx.advance();
 
-		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 		var abiCompat = ParseTools.option(ctx, TokenType.KW_ABI, true);
 		ParseTools.expect(ctx, TokenType.PUNCT_LBRACE, true);
 
@@ -258,7 +258,7 @@ public class DeclParser
 	private static AstDeclStruct.Field parseField(ParseContext ctx)
 	{
 		var type = TypeParser.parse(ctx);
-		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 		ParseTools.expect(ctx, TokenType.PUNCT_SCOLON, true);
 		return new AstDeclStruct.Field(type, name);
 	}
@@ -284,23 +284,16 @@ public class DeclParser
 	{
 		ctx.advance();
 
-		var state = ctx.recordState();
-
-		if(ParseTools.option(ctx, TokenType.IDENT, false))
+		if(ParseTools.lookahead(ctx, 0, TokenType.IDENT) && ParseTools.lookahead(ctx, 1, "="))
 		{
-			var name = (String)ParseTools.consume(ctx).value;
-
-			if(ParseTools.option(ctx, "=", true))
-			{
-				var init = parseGlobalInitAndScolon(ctx);
-				return new AstDeclGlobal(exportKind, Maybe.none(), name, init);
-			}
+			var name = (String)ParseTools.consume(ctx);
+			ParseTools.expect(ctx, "=", true);
+			var init = parseGlobalInitAndScolon(ctx);
+			return new AstDeclGlobal(exportKind, Maybe.none(), name, init);
 		}
 
-		ctx.backtrack(state);
-
 		var type = TypeParser.parse(ctx);
-		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 		ParseTools.expect(ctx, "=", true);
 
 		var init = parseGlobalInitAndScolon(ctx);
@@ -318,7 +311,7 @@ public class DeclParser
 
 		if(ParseTools.option(ctx, TokenType.IDENT, false))
 		{
-			var rename = (String)ParseTools.consume(ctx).value;
+			var rename = (String)ParseTools.consume(ctx);
 			ParseTools.expect(ctx, TokenType.PUNCT_SCOLON, true);
 			return new AstDeclRenamedImport(path, rename);
 		}
@@ -346,7 +339,7 @@ public class DeclParser
 
 		ctx.advance();
 
-		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 		ParseTools.expect(ctx, "=", true);
 		var type = TypeParser.parse(ctx);
 		ParseTools.expect(ctx, TokenType.PUNCT_SCOLON, true);
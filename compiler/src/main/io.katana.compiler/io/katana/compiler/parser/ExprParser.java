@@ -42,14 +42,14 @@ public class ExprParser
 
 		do
 		{
-			var op = (String)ParseTools.consume(ctx).value;
+			var op = (String)ParseTools.consume(ctx);
 			list.infixOps.add(op);
 			list.nestedExprs.add(parsePrefixExpr(ctx));
 		}
 		while(ParseTools.option(ctx, TokenType.OP_INFIX, false));
 
 		var proxy = new AstExprProxy(list);
-		ctx.lateParseExprs().infixLists.put(list, e -> proxy.nestedExpr = e);
+		ctx.lateParseExprs().add(list, proxy);
 		return proxy;
 	}
 
@@ -57,10 +57,10 @@ public class ExprParser
 	{
 		if(ParseTools.option(ctx, TokenType.OP_PREFIX_SEQ, false))
 		{
-			var seq = (String)ParseTools.consume(ctx).value;
+			var seq = (String)ParseTools.consume(ctx);
 			var prefixSeq = new AstExprOpPrefixSeq(seq, parsePrefixExpr(ctx));
 			var proxy = new AstExprProxy(prefixSeq);
-			ctx.lateParseExprs().prefixSeqs.put(prefixSeq, e -> proxy.nestedExpr = e);
+			ctx.lateParseExprs().add(prefixSeq, proxy);
 			return proxy;
 		}
 
@@ -75,10 +75,10 @@ public class ExprParser
 		{
 			if(ParseTools.option(ctx, TokenType.OP_POSTFIX_SEQ, false))
 			{
-				var seq = (String)ParseTools.consume(ctx).value;
+				var seq = (String)ParseTools.consume(ctx);
 				var postfixSeq = new AstExprOpPostfixSeq(expr, seq);
 				var proxy = new AstExprProxy(postfixSeq);
-				ctx.lateParseExprs().postfixSeqs.put(postfixSeq, e -> proxy.nestedExpr = e);
+				ctx.lateParseExprs().add(postfixSeq, proxy);
 				expr = proxy;
 			}
 			else if(ParseTools.option(ctx, TokenType.PUNCT_LPAREN, true))
@@ -95,7 +95,7 @@ public class ExprParser
 			else if(ParseTools.option(ctx, ".", true))
 			{
 				var global = ParseTools.option(ctx, TokenType.KW_GLOBAL, true);
-				var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+				var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 				expr = new AstExprMemberAccess(expr, name, global);
 			}
 			else
@@ -114,13 +114,13 @@ public class ExprParser
 
 		if(ParseTools.option(ctx, TokenType.KW_GLOBAL, true))
 		{
-			var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+			var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 			return new AstExprNamedGlobal(name);
 		}
 
 		if(ParseTools.option(ctx, TokenType.IDENT, false))
 		{
-			var name = (String)ParseTools.consume(ctx).value;
+			var name = (String)ParseTools.consume(ctx);
 			return new AstExprNamedSymbol(name);
 		}
 
@@ -140,7 +140,7 @@ public class ExprParser
 			throw new CompileException(ctx.diagnostics().summary());
 		}
 
-		if(ctx.token() == null)
+		if(ctx.eof())
 			throw new CompileException("unexpected end of file");
 
 		return parseMisc(ctx);
@@ -158,17 +158,11 @@ public class ExprParser
 	{
 		Maybe<AstType> type = Maybe.none();
 
-		var state = ctx.recordState();
-
-		try
+		if(ParseTools.lookaheadIsType(ctx, ":"))
 		{
 			type = Maybe.some(TypeParser.parse(ctx));
 			ParseTools.expect(ctx, ":", true);
 		}
-		catch(CompileException ex)
-		{
-			ctx.backtrack(state);
-		}
 
 		var values = new ArrayList<AstExprLiteral>();
 
@@ -216,16 +210,17 @@ public class ExprParser
 
 	private static Inlining parseInlineSpecifier(ParseContext ctx)
 	{
-		var token = ParseTools.consumeExpected(ctx, TokenType.LIT_BOOL);
-		return (boolean)token.value ? Inlining.ALWAYS : Inlining.NEVER;
+		var value = ParseTools.consumeExpected(ctx, TokenType.LIT_BOOL);
+		return (boolean)value ? Inlining.ALWAYS : Inlining.NEVER;
 	}
 
 	private static AstExpr parseMisc(ParseContext ctx)
 	{
 		var state = ctx.recordState();
-		var token = ParseTools.consume(ctx);
+		var tokenType = ctx.tokenType();
+		ctx.advance();
 
-		switch(token.type)
+		switch(tokenType)
 		{
 		case KW_SIZEOF:
 			if(ParseTools.option(ctx, TokenType.PUNCT_LBRACKET, true))
@@ -250,9 +245,9 @@ public class ExprParser
 		case KW_OFFSETOF:
 			return ParseTools.parenthesized(ctx, () ->
 			{
-				var type = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+				var type = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 				ParseTools.expect(ctx, TokenType.PUNCT_COMMA, true);
-				var field = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+				var field = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 				return new AstExprOffsetof(type, field);
 			});
 
@@ -261,7 +256,7 @@ public class ExprParser
 
 		case KW_INLINE:
 			var inline = ParseTools.parenthesized(ctx, () -> parseInlineSpecifier(ctx));
-			var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+			var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 			ParseTools.expect(ctx, TokenType.PUNCT_LPAREN, true);
 			var call = parseFunctionCall(ctx, new AstExprNamedSymbol(name), inline);
 			ParseTools.expect(ctx, TokenType.PUNCT_RPAREN, true);
@@ -271,7 +266,7 @@ public class ExprParser
 		case KW_WIDEN_CAST:
 		case KW_SIGN_CAST:
 		case KW_POINTER_CAST:
-			return parseCast(ctx, token.type);
+			return parseCast(ctx, tokenType);
 
 		default: break;
 		}
@@ -283,32 +278,33 @@ public class ExprParser
 
 	private static AstExpr parseLiteral(ParseContext ctx)
 	{
-		var token = ParseTools.consume(ctx);
+		var type = ctx.tokenType();
+		var value = ParseTools.consume(ctx);
 
-		return switch(token.type)
+		return switch(type)
 		{
 		case LIT_NULL -> AstExprLitNull.INSTANCE;
-		case LIT_BOOL -> AstExprLitBool.of((boolean)token.value);
+		case LIT_BOOL -> AstExprLitBool.of((boolean)value);
 
-		case LIT_INT   -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.INT));
-		case LIT_INT8  -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.INT8));
-		case LIT_INT16 -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.INT16));
-		case LIT_INT32 -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.INT32));
-		case LIT_INT64 -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.INT64));
+		case LIT_INT   -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.INT));
+		case LIT_INT8  -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.INT8));
+		case LIT_INT16 -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.INT16));
+		case LIT_INT32 -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.INT32));
+		case LIT_INT64 -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.INT64));
 
-		case LIT_UINT   -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.UINT));
-		case LIT_UINT8  -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.UINT8));
-		case LIT_UINT16 -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.UINT16));
-		case LIT_UINT32 -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.UINT32));
-		case LIT_UINT64 -> new AstExprLitInt((BigInteger)token.value, Maybe.some(BuiltinType.UINT64));
+		case LIT_UINT   -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.UINT));
+		case LIT_UINT8  -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.UINT8));
+		case LIT_UINT16 -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.UINT16));
+		case LIT_UINT32 -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.UINT32));
+		case LIT_UINT64 -> new AstExprLitInt((BigInteger)value, Maybe.some(BuiltinType.UINT64));
 
-		case LIT_FLOAT32 -> new AstExprLitFloat((Fraction)token.value, Maybe.some(BuiltinType.FLOAT32));
-		case LIT_FLOAT64 -> new AstExprLitFloat((Fraction)token.value, Maybe.some(BuiltinType.FLOAT64));
+		case LIT_FLOAT32 -> new AstExprLitFloat((Fraction)value, Maybe.some(BuiltinType.FLOAT32));
+		case LIT_FLOAT64 -> new AstExprLitFloat((Fraction)value, Maybe.some(BuiltinType.FLOAT64));
 
-		case LIT_STRING -> new AstExprLitString((String)token.value);
+		case LIT_STRING -> new AstExprLitString((String)value);
 
-		case LIT_INT_DEDUCE   -> new AstExprLitInt((BigInteger)token.value, Maybe.none());
-		case LIT_FLOAT_DEDUCE -> new AstExprLitFloat((Fraction)token.value, Maybe.none());
+		case LIT_INT_DEDUCE   -> new AstExprLitInt((BigInteger)value, Maybe.none());
+		case LIT_FLOAT_DEDUCE -> new AstExprLitFloat((Fraction)value, Maybe.none());
 
 		default -> throw new AssertionError("unreachable");
 		};
@@ -24,7 +24,9 @@ import io.katana.compiler.op.Operator;
 import io.katana.compiler.scanner.Scanner;
 import io.katana.compiler.scanner.SourceFile;
 import io.katana.compiler.visitor.IVisitor;
+import io.katana.compiler.visitor.PartialVisitor;
 
+@PartialVisitor
 @SuppressWarnings("unused")
 public class FileParser extends IVisitor
 {
@@ -44,7 +46,7 @@ public class FileParser extends IVisitor
 		var ast = new AstFile();
 		var parser = new FileParser(ast);
 
-		while(ctx.token() != null)
+		while(!ctx.eof())
 		{
 			var decl = DeclParser.parse(ctx);
 			parser.invokeSelf(decl);
@@ -67,7 +69,7 @@ public class FileParser extends IVisitor
 		return module;
 	}
 
-	private void visit(AstDeclImport decl)
+	void visit(AstDeclImport decl)
 	{
 		if(module != null)
 			throw new CompileException("imports must go first in a file");
@@ -78,7 +80,7 @@ public class FileParser extends IVisitor
 		file.imports.put(decl.path, decl);
 	}
 
-	private void visit(AstDeclRenamedImport decl)
+	void visit(AstDeclRenamedImport decl)
 	{
 		if(module != null)
 			throw new CompileException("imports must go first in a file");
@@ -89,7 +91,7 @@ public class FileParser extends IVisitor
 		file.renamedImports.put(decl.rename, decl);
 	}
 
-	private void visit(AstDeclModule decl)
+	void visit(AstDeclModule decl)
 	{
 		module = findOrCreateModule(decl.path);
 	}
@@ -115,17 +117,17 @@ public class FileParser extends IVisitor
 		module.decls.put(name, decl);
 	}
 
-	private void visit(AstDeclStruct decl)
+	void visit(AstDeclStruct decl)
 	{
 		handleDecl(decl, decl.name);
 	}
 
-	private void visit(AstDeclGlobal decl)
+	void visit(AstDeclGlobal decl)
 	{
 		handleDecl(decl, decl.name);
 	}
 
-	private void visit(AstDeclTypeAlias decl)
+	void visit(AstDeclTypeAlias decl)
 	{
 		handleDecl(decl, decl.name);
 	}
@@ -149,21 +151,21 @@ public class FileParser extends IVisitor
 		return set;
 	}
 
-	private void visit(AstDeclFunctionDef decl)
+	void visit(AstDeclFunctionDef decl)
 	{
 		requireModule();
 		var set = findOrCreateOverloadSet(decl.name);
 		set.overloads.add(decl);
 	}
 
-	private void visit(AstDeclExternFunction decl)
+	void visit(AstDeclExternFunction decl)
 	{
 		requireModule();
 		var set = findOrCreateOverloadSet(decl.name);
 		set.overloads.add(decl);
 	}
 
-	private void visit(AstDeclOperator decl)
+	void visit(AstDeclOperator decl)
 	{
 		handleDecl(decl, Operator.declName(decl.operator.symbol, decl.operator.kind));
 	}
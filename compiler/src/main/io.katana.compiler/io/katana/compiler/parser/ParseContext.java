@@ -19,9 +19,9 @@ import io.katana.compiler.diag.DiagnosticId;
 import io.katana.compiler.diag.DiagnosticsManager;
 import io.katana.compiler.scanner.SourceFile;
 import io.katana.compiler.scanner.SourceLocation;
-import io.katana.compiler.scanner.Token;
-
-import java.util.List;
+import io.katana.compiler.scanner.TokenBuffer;
+import io.katana.compiler.scanner.TokenCategory;
+import io.katana.compiler.scanner.TokenType;
 
 public class ParseContext
 {
@@ -29,9 +29,9 @@ public class ParseContext
 	{
 		private final int currentToken;
 		private final int diagnosticCount;
-		private final LateParseExprs lateParseExprs;
+		private final LateParseExprs.Mark lateParseExprs;
 
-		public BacktrackState(int currentToken, int diagnosticCount, LateParseExprs lateParseExprs)
+		public BacktrackState(int currentToken, int diagnosticCount, LateParseExprs.Mark lateParseExprs)
 		{
 			this.currentToken = currentToken;
 			this.diagnosticCount = diagnosticCount;
@@ -40,24 +40,17 @@ public class ParseContext
 	}
 
 	private final SourceFile file;
-	private final List<Token> tokens;
+	private final TokenBuffer tokens;
 	private final DiagnosticsManager diag;
 
-	private LateParseExprs lateParseExprs;
-	private int current;
-
-	public ParseContext(SourceFile file, List<Token> tokens, DiagnosticsManager diag)
-	{
-		this(file, tokens, diag, new LateParseExprs(), 0);
-	}
+	private final LateParseExprs lateParseExprs = new LateParseExprs();
+	private int current = 0;
 
-	private ParseContext(SourceFile file, List<Token> tokens, DiagnosticsManager diag, LateParseExprs lateParseExprs, int current)
+	public ParseContext(SourceFile file, TokenBuffer tokens, DiagnosticsManager diag)
 	{
 		this.file = file;
 		this.tokens = tokens;
 		this.diag = diag;
-		this.lateParseExprs = lateParseExprs;
-		this.current = current;
 	}
 
 	private SourceLocation location(int relative)
@@ -67,8 +60,7 @@ public class ParseContext
 		if(index < 0 || index >= tokens.size())
 			return null;
 
-		var token = tokens.get(index);
-		return file.resolve(token.offset, token.length);
+		return file.resolve(tokens.offset(index), tokens.length(index));
 	}
 
 	public SourceFile file()
@@ -78,14 +70,14 @@ public class ParseContext
 
 	public BacktrackState recordState()
 	{
-		return new BacktrackState(current, diag.amount(), lateParseExprs.clone());
+		return new BacktrackState(current, diag.amount(), lateParseExprs.mark());
 	}
 
 	public void backtrack(BacktrackState state)
 	{
 		current = state.currentToken;
 		diag.rewind(diag.amount() - state.diagnosticCount);
-		lateParseExprs = state.lateParseExprs;
+		lateParseExprs.rewind(state.lateParseExprs);
 	}
 
 	public LateParseExprs lateParseExprs()
@@ -93,12 +85,54 @@ public class ParseContext
 		return lateParseExprs;
 	}
 
-	public Token token()
+	public boolean eof()
 	{
-		if(current == tokens.size())
-			return null;
+		return current == tokens.size();
+	}
+
+	public TokenType tokenType()
+	{
+		return tokenType(0);
+	}
+
+	public TokenCategory tokenCategory()
+	{
+		return tokenCategory(0);
+	}
 
-		return tokens.get(current);
+	public Object tokenValue()
+	{
+		return tokenValue(0);
+	}
+
+	private boolean exists(int relative)
+	{
+		return current + relative < tokens.size();
+	}
+
+	public TokenType tokenType(int relative)
+	{
+		return exists(relative) ? tokens.type(current + relative) : null;
+	}
+
+	public TokenCategory tokenCategory(int relative)
+	{
+		return exists(relative) ? tokens.category(current + relative) : null;
+	}
+
+	public Object tokenValue(int relative)
+	{
+		return exists(relative) ? tokens.value(current + relative) : null;
+	}
+
+	public int tokenOffset()
+	{
+		return tokens.offset(current);
+	}
+
+	public int tokenLength()
+	{
+		return tokens.length(current);
 	}
 
 	public DiagnosticsManager diagnostics()
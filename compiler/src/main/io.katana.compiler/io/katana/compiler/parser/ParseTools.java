@@ -16,25 +16,23 @@ package io.katana.compiler.parser;
 
 import io.katana.compiler.ast.AstPath;
 import io.katana.compiler.diag.CompileException;
-import io.katana.compiler.scanner.Token;
 import io.katana.compiler.scanner.TokenCategory;
 import io.katana.compiler.scanner.TokenType;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class ParseTools
 {
 	public static AstPath path(ParseContext ctx)
 	{
-		Supplier<String> parseComponent = () -> (String)consumeExpected(ctx, TokenType.IDENT).value;
+		Supplier<String> parseComponent = () -> (String)consumeExpected(ctx, TokenType.IDENT);
 		var components = separated(ctx, ".", parseComponent);
 		return new AstPath(components);
 	}
 
-	public static <T> List<T> separated(ParseContext ctx, Predicate<Token> separator, Supplier<T> parser)
+	public static <T> List<T> separated(ParseContext ctx, TokenType separator, Supplier<T> parser)
 	{
 		var result = new ArrayList<T>();
 
@@ -44,14 +42,14 @@ public class ParseTools
 		return result;
 	}
 
-	public static <T> List<T> separated(ParseContext ctx, TokenType separator, Supplier<T> parser)
-	{
-		return separated(ctx, t -> t.type == separator, parser);
-	}
-
 	public static <T> List<T> separated(ParseContext ctx, String separator, Supplier<T> parser)
 	{
-		return separated(ctx, t -> separator.equals(t.value), parser);
+		var result = new ArrayList<T>();
+
+		do result.add(parser.get());
+		while(option(ctx, separator, true));
+
+		return result;
 	}
 
 	public static <T> T parenthesized(ParseContext ctx, Supplier<T> func)
@@ -62,12 +60,9 @@ public class ParseTools
 		return result;
 	}
 
-	public static boolean option(ParseContext ctx, Predicate<Token> predicate, boolean eat)
+	private static boolean option(ParseContext ctx, boolean matches, boolean eat)
 	{
-		if(ctx.token() == null)
-			return false;
-
-		if(!predicate.test(ctx.token()))
+		if(!matches)
 			return false;
 
 		if(eat)
@@ -78,17 +73,33 @@ public class ParseTools
 
 	public static boolean option(ParseContext ctx, String value, boolean eat)
 	{
-		return option(ctx, t -> value.equals(t.value), eat);
+		return option(ctx, value.equals(ctx.tokenValue()), eat);
 	}
 
 	public static boolean option(ParseContext ctx, TokenCategory category, boolean eat)
 	{
-		return option(ctx, t -> t.category == category, eat);
+		return option(ctx, ctx.tokenCategory() == category, eat);
 	}
 
 	public static boolean option(ParseContext ctx, TokenType type, boolean eat)
 	{
-		return option(ctx, t -> t.type == type, eat);
+		return option(ctx, ctx.tokenType() == type, eat);
+	}
+
+	public static boolean lookahead(ParseContext ctx, int relative, String value)
+	{
+		return value.equals(ctx.tokenValue(relative));
+	}
+
+	public static boolean lookahead(ParseContext ctx, int relative, TokenType type)
+	{
+		return ctx.tokenType(relative) == type;
+	}
+
+	public static boolean lookaheadIsType(ParseContext ctx, String follower)
+	{
+		var end = TypeParser.lookahead(ctx, 0);
+		return end != -1 && lookahead(ctx, end, follower);
 	}
 
 	public static void expect(ParseContext ctx, String value, boolean eat)
@@ -109,20 +120,20 @@ public class ParseTools
 			unexpectedToken(ctx, type);
 	}
 
-	public static Token consume(ParseContext ctx)
+	public static Object consume(ParseContext ctx)
 	{
-		var token = ctx.token();
+		var value = ctx.tokenValue();
 		ctx.advance();
-		return token;
+		return value;
 	}
 
-	public static Token consumeExpected(ParseContext ctx, TokenCategory category)
+	public static Object consumeExpected(ParseContext ctx, TokenCategory category)
 	{
 		expect(ctx, category, false);
 		return consume(ctx);
 	}
 
-	public static Token consumeExpected(ParseContext ctx, TokenType type)
+	public static Object consumeExpected(ParseContext ctx, TokenType type)
 	{
 		expect(ctx, type, false);
 		return consume(ctx);
@@ -130,14 +141,14 @@ public class ParseTools
 
 	public static <T> void unexpectedToken(ParseContext ctx, T expected)
 	{
-		var tokenString = ctx.file().slice(ctx.token().offset, ctx.token().length);
+		var tokenString = ctx.file().slice(ctx.tokenOffset(), ctx.tokenLength());
 		ctx.error(ParserDiagnostics.UNEXPECTED_TOKEN_EXPECTED, tokenString, expected);
 		throw new CompileException(ctx.diagnostics().summary());
 	}
 
 	public static void unexpectedToken(ParseContext ctx)
 	{
-		var tokenString = ctx.file().slice(ctx.token().offset, ctx.token().length);
+		var tokenString = ctx.file().slice(ctx.tokenOffset(), ctx.tokenLength());
 		ctx.error(ParserDiagnostics.UNEXPECTED_TOKEN, tokenString);
 		throw new CompileException(ctx.diagnostics().summary());
 	}
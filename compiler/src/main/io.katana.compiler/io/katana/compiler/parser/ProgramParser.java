@@ -14,22 +14,62 @@
 
 package io.katana.compiler.parser;
 
+import io.katana.compiler.ast.AstFile;
 import io.katana.compiler.ast.AstProgram;
 import io.katana.compiler.diag.DiagnosticsManager;
+import io.katana.compiler.scanner.SourceFile;
 import io.katana.compiler.scanner.SourceManager;
+import io.katana.compiler.utils.Futures;
+import io.katana.compiler.utils.Maybe;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class ProgramParser
 {
-	public static AstProgram parse(SourceManager sourceManager, DiagnosticsManager diag) throws IOException
+	private static AstFile parse(SourceFile file, DiagnosticsManager diag, Maybe<AstCache> cache)
 	{
+		if(cache.isNone())
+			return FileParser.parse(file, diag);
+
+		var cached = cache.get().load(file);
+
+		if(cached.isSome())
+			return cached.get();
+
+		var ast = FileParser.parse(file, diag);
+
+		// files with diagnostics are parsed again so that these are reported on every build
+		if(diag.amount() == 0)
+			cache.get().store(file, ast);
+
+		return ast;
+	}
+
+	public static AstProgram parse(SourceManager sourceManager, DiagnosticsManager diag, ExecutorService executor, Maybe<AstCache> cache) throws IOException
+	{
+		var files = new ArrayList<>(sourceManager.files());
+		var buffers = new ArrayList<DiagnosticsManager>();
+		var futures = new ArrayList<Future<AstFile>>();
+
+		for(var file : files)
+		{
+			var fileDiag = diag.fork();
+			buffers.add(fileDiag);
+			futures.add(executor.submit(() -> parse(file, fileDiag, cache)));
+		}
+
 		var program = new AstProgram();
 
-		for(var file : sourceManager.files())
+		// merge in path order so that diagnostics do not depend on scheduling
+		for(var i = 0; i != files.size(); ++i)
 		{
-			var ast = FileParser.parse(file, diag);
-			program.files.put(file, ast);
+			// the buffer is only complete once its file is parsed
+			var ast = Futures.await(futures.get(i));
+			diag.merge(buffers.get(i));
+			program.files.put(files.get(i), ast);
 		}
 
 		return program;
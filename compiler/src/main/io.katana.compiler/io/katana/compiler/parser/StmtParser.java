@@ -77,23 +77,16 @@ public class StmtParser
 
 	private static AstStmt parseVar(ParseContext ctx)
 	{
-		var state = ctx.recordState();
-
-		if(ParseTools.option(ctx, TokenType.IDENT, false))
+		if(ParseTools.lookahead(ctx, 0, TokenType.IDENT) && ParseTools.lookahead(ctx, 1, "="))
 		{
-			var name = (String)ParseTools.consume(ctx).value;
-
-			if(ParseTools.option(ctx, "=", true))
-			{
-				var init = parseVarInitAndScolon(ctx);
-				return new AstStmtVar(Maybe.none(), name, init);
-			}
+			var name = (String)ParseTools.consume(ctx);
+			ParseTools.expect(ctx, "=", true);
+			var init = parseVarInitAndScolon(ctx);
+			return new AstStmtVar(Maybe.none(), name, init);
 		}
 
-		ctx.backtrack(state);
-
 		var type = TypeParser.parse(ctx);
-		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT).value;
+		var name = (String)ParseTools.consumeExpected(ctx, TokenType.IDENT);
 		ParseTools.expect(ctx, "=", true);
 
 		var init = parseVarInitAndScolon(ctx);
@@ -118,7 +111,7 @@ public class StmtParser
 
 	private static AstStmtGoto parseGoto(ParseContext ctx)
 	{
-		var label = (String)ParseTools.consumeExpected(ctx, TokenType.LABEL).value;
+		var label = (String)ParseTools.consumeExpected(ctx, TokenType.LABEL);
 		ParseTools.expect(ctx, TokenType.PUNCT_SCOLON, true);
 		return new AstStmtGoto(label);
 	}
@@ -149,7 +142,7 @@ public class StmtParser
 
 	private static AstStmtLabel parseLabel(ParseContext ctx)
 	{
-		var label = (String)ParseTools.consume(ctx).value;
+		var label = (String)ParseTools.consume(ctx);
 		ParseTools.expect(ctx, ":", true);
 		return new AstStmtLabel(label);
 	}
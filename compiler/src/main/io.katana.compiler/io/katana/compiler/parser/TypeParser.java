@@ -72,11 +72,12 @@ public class TypeParser
 
 		if(ParseTools.option(ctx, TokenCategory.OP, false))
 		{
-			var token = ParseTools.consume(ctx);
+			var offset = ctx.tokenOffset();
+			var qualifiers = (String)ParseTools.consume(ctx);
 			var type = parse(ctx);
 
 			var count = 0;
-			for(var c : ((String)token.value).toCharArray())
+			for(var c : qualifiers.toCharArray())
 			{
 				switch(c)
 				{
@@ -85,7 +86,7 @@ public class TypeParser
 					break;
 
 				default:
-					var location = ctx.file().resolve(token.offset + count, 1);
+					var location = ctx.file().resolve(offset + count, 1);
 					ctx.error(location, ParserDiagnostics.UNEXPECTED_CHARACTER_IN_TYPE_QUALIFIERS, c);
 					break;
 				}
@@ -93,7 +94,7 @@ public class TypeParser
 				++count;
 			}
 
-			for(var c : new StringBuilder((String)token.value).reverse().toString().toCharArray())
+			for(var c : new StringBuilder(qualifiers).reverse().toString().toCharArray())
 			{
 				switch(c)
 				{
@@ -111,7 +112,7 @@ public class TypeParser
 
 		if(ParseTools.option(ctx, TokenType.IDENT, false))
 		{
-			var name = (String)ParseTools.consume(ctx).value;
+			var name = (String)ParseTools.consume(ctx);
 			return new AstTypeUserDefined(name);
 		}
 
@@ -119,6 +120,128 @@ public class TypeParser
 		return null;
 	}
 
+	// returns the position after the type starting at relative or -1 if there is none,
+	// accepts exactly what doParse accepts without building the type or reporting errors
+	public static int lookahead(ParseContext ctx, int relative)
+	{
+		var type = ctx.tokenType(relative);
+
+		if(type == null)
+			return -1;
+
+		switch(type)
+		{
+		case KW_FN: return lookaheadFunction(ctx, relative + 1);
+		case PUNCT_LBRACE: return lookaheadTuple(ctx, relative + 1);
+		case PUNCT_LBRACKET: return lookaheadArrayOrSlice(ctx, relative + 1);
+		case TYPE_CONST: return lookahead(ctx, relative + 1);
+		case TYPE_TYPEOF: return lookaheadParenthesized(ctx, relative + 1);
+		case IDENT: return relative + 1;
+		default: break;
+		}
+
+		var category = ctx.tokenCategory(relative);
+
+		if(category == TokenCategory.OP)
+			return lookahead(ctx, relative + 1);
+
+		if(category == TokenCategory.TYPE)
+			return relative + 1;
+
+		return -1;
+	}
+
+	private static int lookaheadFunction(ParseContext ctx, int relative)
+	{
+		if(!ParseTools.lookahead(ctx, relative, TokenType.PUNCT_LPAREN))
+			return -1;
+
+		++relative;
+
+		if(!ParseTools.lookahead(ctx, relative, TokenType.PUNCT_RPAREN))
+		{
+			while(true)
+			{
+				if(ParseTools.lookahead(ctx, relative, TokenType.PUNCT_ELLIPSIS))
+				{
+					++relative;
+					break;
+				}
+
+				relative = lookahead(ctx, relative);
+
+				if(relative == -1)
+					return -1;
+
+				if(!ParseTools.lookahead(ctx, relative, TokenType.PUNCT_COMMA))
+					break;
+
+				++relative;
+			}
+
+			if(!ParseTools.lookahead(ctx, relative, TokenType.PUNCT_RPAREN))
+				return -1;
+		}
+
+		++relative;
+
+		if(ParseTools.lookahead(ctx, relative, "=>"))
+			return lookahead(ctx, relative + 1);
+
+		return relative;
+	}
+
+	private static int lookaheadTuple(ParseContext ctx, int relative)
+	{
+		if(ParseTools.lookahead(ctx, relative, TokenType.PUNCT_RBRACE))
+			return relative + 1;
+
+		while(true)
+		{
+			relative = lookahead(ctx, relative);
+
+			if(relative == -1)
+				return -1;
+
+			if(!ParseTools.lookahead(ctx, relative, TokenType.PUNCT_COMMA))
+				break;
+
+			++relative;
+		}
+
+		return ParseTools.lookahead(ctx, relative, TokenType.PUNCT_RBRACE) ? relative + 1 : -1;
+	}
+
+	private static int lookaheadArrayOrSlice(ParseContext ctx, int relative)
+	{
+		if(ParseTools.lookahead(ctx, relative, TokenType.LIT_INT_DEDUCE))
+			++relative;
+
+		if(!ParseTools.lookahead(ctx, relative, TokenType.PUNCT_RBRACKET))
+			return -1;
+
+		return lookahead(ctx, relative + 1);
+	}
+
+	private static int lookaheadParenthesized(ParseContext ctx, int relative)
+	{
+		if(!ParseTools.lookahead(ctx, relative, TokenType.PUNCT_LPAREN))
+			return -1;
+
+		for(var depth = 0;; ++relative)
+		{
+			var type = ctx.tokenType(relative);
+
+			if(type == null)
+				return -1;
+
+			if(type == TokenType.PUNCT_LPAREN)
+				++depth;
+			else if(type == TokenType.PUNCT_RPAREN && --depth == 0)
+				return relative + 1;
+		}
+	}
+
 	private static AstTypeFunction parseFunction(ParseContext ctx)
 	{
 		var params = parseParameters(ctx);
@@ -178,7 +301,7 @@ public class TypeParser
 
 		try
 		{
-			var size = ((BigInteger)ParseTools.consumeExpected(ctx, TokenType.LIT_INT_DEDUCE).value).longValueExact();
+			var size = ((BigInteger)ParseTools.consumeExpected(ctx, TokenType.LIT_INT_DEDUCE)).longValueExact();
 			ParseTools.expect(ctx, TokenType.PUNCT_RBRACKET, true);
 			return new AstTypeArray(size, parse(ctx));
 		}
@@ -195,7 +318,9 @@ public class TypeParser
 
 	private static AstTypeBuiltin parseBuiltin(ParseContext ctx)
 	{
-		var type = ParseTools.consumeExpected(ctx, TokenCategory.TYPE).type;
+		ParseTools.expect(ctx, TokenCategory.TYPE, false);
+		var type = ctx.tokenType();
+		ctx.advance();
 
 		return switch(type)
 		{
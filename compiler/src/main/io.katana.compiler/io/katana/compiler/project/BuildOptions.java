@@ -14,7 +14,18 @@
 
 package io.katana.compiler.project;
 
+import io.katana.compiler.backend.llvm.Partitioning;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 public class BuildOptions
 {
 	public boolean printBuildMetrics;
+	public boolean useCaches = true;
+	public int frontendThreads = Runtime.getRuntime().availableProcessors();
+	public int jobs = Runtime.getRuntime().availableProcessors();
+	public Partitioning partitioning = Partitioning.NONE;
+	public Path objectCacheDir = Paths.get(System.getProperty("user.home"), ".katana", "object-cache");
+	public long objectCacheSize = 5L * 1024 * 1024 * 1024;
 }
@@ -0,0 +1,205 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.project;
+
+import io.katana.compiler.utils.Hashing;
+import io.katana.compiler.utils.Maybe;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// remembers how each output of a target was produced: the command and the content hashes of all inputs it was
+// produced from. outputs whose command and inputs are still the same are not produced again. contents are only
+// hashed again if the size or modification time of a file changed since it was last hashed
+public class BuildState
+{
+	private static class FileState implements Serializable
+	{
+		private final long size;
+		private final long modified;
+		private final String hash;
+
+		private FileState(long size, long modified, String hash)
+		{
+			this.size = size;
+			this.modified = modified;
+			this.hash = hash;
+		}
+	}
+
+	private static class Record implements Serializable
+	{
+		private final List<String> command;
+		private final List<String> outputs;
+		private final Map<String, String> inputs;
+
+		private Record(List<String> command, List<String> outputs, Map<String, String> inputs)
+		{
+			this.command = command;
+			this.outputs = outputs;
+			this.inputs = inputs;
+		}
+	}
+
+	private static class Snapshot implements Serializable
+	{
+		private final Map<String, Record> records;
+		private final Map<String, FileState> files;
+
+		private Snapshot(Map<String, Record> records, Map<String, FileState> files)
+		{
+			this.records = records;
+			this.files = files;
+		}
+	}
+
+	private final Path root;
+	private final Map<String, Record> records;
+	private final Map<String, FileState> files;
+
+	private BuildState(Path root, Map<String, Record> records, Map<String, FileState> files)
+	{
+		this.root = root;
+		this.records = new ConcurrentHashMap<>(records);
+		this.files = new ConcurrentHashMap<>(files);
+	}
+
+	public static BuildState load(Path root, Path path)
+	{
+		if(!Files.exists(root.resolve(path)))
+			return new BuildState(root, Map.of(), Map.of());
+
+		try(var stream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(root.resolve(path)))))
+		{
+			var snapshot = (Snapshot)stream.readObject();
+			return new BuildState(root, snapshot.records, snapshot.files);
+		}
+		catch(IOException | ClassNotFoundException | ClassCastException ex)
+		{
+			return new BuildState(root, Map.of(), Map.of());
+		}
+	}
+
+	public void store(Path path) throws IOException
+	{
+		var records = Map.copyOf(this.records);
+		var files = new HashMap<String, FileState>();
+
+		// files no longer used by any output are forgotten
+		for(var record : records.values())
+			for(var input : record.inputs.keySet())
+				if(this.files.containsKey(input))
+					files.put(input, this.files.get(input));
+
+		var tmpPath = root.resolve(path.resolveSibling(path.getFileName() + ".tmp"));
+
+		try(var stream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpPath))))
+		{
+			stream.writeObject(new Snapshot(records, files));
+		}
+
+		Files.move(tmpPath, root.resolve(path), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private Maybe<String> hash(String path)
+	{
+		var file = root.resolve(path);
+
+		try
+		{
+			var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+			var size = attributes.size();
+			var modified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+			var state = files.get(path);
+
+			if(state != null && state.size == size && state.modified == modified)
+				return Maybe.some(state.hash);
+
+			var hash = Hashing.sha256(Files.readAllBytes(file));
+			files.put(path, new FileState(size, modified, hash));
+			return Maybe.some(hash);
+		}
+		catch(IOException ex)
+		{
+			// e.g. a deleted header, which makes the output out of date
+			return Maybe.none();
+		}
+	}
+
+	public boolean isUpToDate(String step, List<String> command)
+	{
+		var record = records.get(step);
+
+		if(record == null || !record.command.equals(command))
+			return false;
+
+		for(var output : record.outputs)
+			if(!Files.exists(root.resolve(output)))
+				return false;
+
+		for(var input : record.inputs.entrySet())
+		{
+			var hash = hash(input.getKey());
+
+			if(hash.isNone() || !hash.get().equals(input.getValue()))
+				return false;
+		}
+
+		return true;
+	}
+
+	public List<Path> outputs(String step)
+	{
+		return records.get(step).outputs.stream()
+		                                .map(Paths::get)
+		                                .collect(Collectors.toList());
+	}
+
+	// forgets an output before it is produced again, so it is not considered up to date should that fail
+	public void invalidate(String step)
+	{
+		records.remove(step);
+	}
+
+	public void record(String step, List<String> command, List<Path> inputs, List<Path> outputs)
+	{
+		var hashes = new TreeMap<String, String>();
+
+		for(var input : inputs)
+		{
+			var hash = hash(input.toString());
+
+			// an input that cannot be read is never up to date, so there is no use in recording the output
+			if(hash.isNone())
+				return;
+
+			hashes.put(input.toString(), hash.get());
+		}
+
+		var outputPaths = outputs.stream().map(Path::toString).collect(Collectors.toList());
+		records.put(step, new Record(List.copyOf(command), outputPaths, hashes));
+	}
+}
@@ -0,0 +1,95 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.project;
+
+import io.katana.compiler.utils.Maybe;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// reads the make rules clang writes with -MD -MF, which list the source file and every header it included
+public class Depfile
+{
+	public static List<Path> parse(String text)
+	{
+		var result = new ArrayList<Path>();
+		var token = new StringBuilder();
+		var prerequisites = false;
+
+		for(var i = 0; i <= text.length(); ++i)
+		{
+			var c = i == text.length() ? '\n' : text.charAt(i);
+			var next = i + 1 < text.length() ? text.charAt(i + 1) : '\0';
+
+			if(c == '\\' && (next == '\n' || next == '\r'))
+			{
+				// line continuation
+				i += next == '\r' && i + 2 < text.length() && text.charAt(i + 2) == '\n' ? 2 : 1;
+				c = ' ';
+			}
+			else if(c == '\\' && (next == ' ' || next == '#'))
+			{
+				token.append(next);
+				++i;
+				continue;
+			}
+			else if(c == '$' && next == '$')
+			{
+				token.append('$');
+				++i;
+				continue;
+			}
+
+			if(!Character.isWhitespace(c))
+			{
+				token.append(c);
+				continue;
+			}
+
+			if(token.length() != 0)
+			{
+				if(prerequisites)
+					result.add(Paths.get(token.toString()));
+				else if(token.charAt(token.length() - 1) == ':')
+					prerequisites = true;
+
+				token.setLength(0);
+			}
+
+			// a new rule starts on the next line, e.g. the empty ones for headers written by -MP
+			if(c == '\n')
+				prerequisites = false;
+		}
+
+		return result;
+	}
+
+	public static Maybe<List<Path>> load(Path path)
+	{
+		try
+		{
+			return Maybe.some(parse(Files.readString(path, StandardCharsets.UTF_8)));
+		}
+		catch(IOException ex)
+		{
+			return Maybe.none();
+		}
+	}
+}
@@ -0,0 +1,131 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.project;
+
+import io.katana.compiler.utils.Futures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// the compile jobs of a target. once one of them fails or the group is cancelled, the jobs that have not started yet
+// are called off; whoever runs them still waits for those already running, so that no process outlives the build
+class JobGroup
+{
+	private static class Job
+	{
+		// whichever of the job itself and the cancellation claims it first decides whether it runs
+		private final AtomicBoolean claimed;
+		private final Future<?> future;
+
+		private Job(AtomicBoolean claimed, Future<?> future)
+		{
+			this.claimed = claimed;
+			this.future = future;
+		}
+	}
+
+	private final ExecutorService executor;
+	private final CompletableFuture<Void> failure = new CompletableFuture<>();
+	private final List<Job> jobs = new CopyOnWriteArrayList<>();
+
+	public JobGroup(ExecutorService executor)
+	{
+		this.executor = executor;
+		failure.whenComplete((result, ex) -> cancelPending());
+	}
+
+	public <T> Future<T> submit(Callable<T> task)
+	{
+		var claimed = new AtomicBoolean();
+		var future = executor.submit(() ->
+		{
+			if(!claimed.compareAndSet(false, true))
+				throw new CancellationException();
+
+			try
+			{
+				return task.call();
+			}
+			catch(Throwable ex)
+			{
+				failure.completeExceptionally(ex);
+				throw ex;
+			}
+		});
+
+		jobs.add(new Job(claimed, future));
+
+		// the group may have failed before the job was added
+		if(failure.isDone())
+			cancelPending();
+
+		return future;
+	}
+
+	private void cancelPending()
+	{
+		for(var job : jobs)
+			if(job.claimed.compareAndSet(false, true))
+				job.future.cancel(false);
+	}
+
+	public void cancel()
+	{
+		failure.cancel(false);
+	}
+
+	// rethrows the failure of a job, or a CancellationException if the group was cancelled
+	public void throwIfFailed()
+	{
+		if(failure.isDone())
+			Futures.join(failure);
+	}
+
+	// the results in order, or the failure that called off the remaining jobs
+	public <T> List<T> join(List<Future<T>> futures)
+	{
+		var results = new ArrayList<T>();
+
+		try
+		{
+			for(var future : futures)
+				results.add(Futures.join(future));
+		}
+		catch(CancellationException ex)
+		{
+			// the job was called off, report why
+			throwIfFailed();
+			throw ex;
+		}
+
+		return results;
+	}
+
+	// calls off the jobs that have not started yet and waits for those already running
+	public void finish()
+	{
+		cancelPending();
+
+		for(var job : jobs)
+			Futures.awaitQuietly(job.future);
+	}
+}
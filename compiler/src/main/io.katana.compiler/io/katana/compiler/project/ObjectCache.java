@@ -0,0 +1,358 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.project;
+
+import io.katana.compiler.utils.Hashing;
+import io.katana.compiler.utils.Maybe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// objects are stored under a hash of everything that went into compiling them, so entries are shared between
+// targets and projects; entries are touched whenever they are used and the least recently used ones evicted
+public class ObjectCache
+{
+	private static final Map<String, String> TOOL_VERSIONS = new ConcurrentHashMap<>();
+	private static final String TMP_EXTENSION = ".tmp";
+
+	private static class Entry
+	{
+		public final Path path;
+		public final long size;
+		public final FileTime lastUsed;
+
+		public Entry(Path path, long size, FileTime lastUsed)
+		{
+			this.path = path;
+			this.size = size;
+			this.lastUsed = lastUsed;
+		}
+	}
+
+	private final Path dir;
+	private final long maxSize;
+	private final AtomicBoolean modified = new AtomicBoolean();
+
+	public ObjectCache(Path dir, long maxSize) throws IOException
+	{
+		Files.createDirectories(dir);
+		this.dir = dir;
+		this.maxSize = maxSize;
+	}
+
+	private static Maybe<byte[]> runTool(Path workingDir, List<String> command)
+	{
+		var builder = new ProcessBuilder(command);
+		builder.directory(workingDir.toFile());
+		builder.redirectError(ProcessBuilder.Redirect.DISCARD);
+
+		Process process;
+
+		try
+		{
+			process = builder.start();
+		}
+		catch(IOException ex)
+		{
+			return Maybe.none();
+		}
+
+		try
+		{
+			var output = process.getInputStream().readAllBytes();
+			return process.waitFor() == 0 ? Maybe.some(output) : Maybe.none();
+		}
+		catch(IOException ex)
+		{
+			process.destroyForcibly();
+			return Maybe.none();
+		}
+		catch(InterruptedException ex)
+		{
+			// the process must not outlive the build
+			process.destroyForcibly();
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private static Maybe<Path> resolveTool(Path workingDir, String tool)
+	{
+		if(tool.contains(FileSystems.getDefault().getSeparator()))
+			return Maybe.some(workingDir.resolve(tool));
+
+		var path = System.getenv("PATH");
+
+		if(path == null)
+			return Maybe.none();
+
+		for(var dir : path.split(File.pathSeparator))
+		{
+			var candidate = workingDir.resolve(dir.isEmpty() ? "." : dir).resolve(tool);
+
+			if(Files.isRegularFile(candidate) && Files.isExecutable(candidate))
+				return Maybe.some(candidate);
+		}
+
+		return Maybe.none();
+	}
+
+	// where the tool resolves to and when it was last modified, so that an upgrade is noticed
+	private static Maybe<String> toolKey(Path workingDir, String tool)
+	{
+		var path = resolveTool(workingDir, tool);
+
+		if(path.isNone())
+			return Maybe.none();
+
+		try
+		{
+			var realPath = path.get().toRealPath();
+			return Maybe.some(realPath + "@" + Files.getLastModifiedTime(realPath).toMillis());
+		}
+		catch(IOException ex)
+		{
+			return Maybe.none();
+		}
+	}
+
+	private static Maybe<String> toolVersion(Path workingDir, String tool)
+	{
+		var key = toolKey(workingDir, tool);
+
+		if(key.isSome() && TOOL_VERSIONS.containsKey(key.get()))
+			return Maybe.some(TOOL_VERSIONS.get(key.get()));
+
+		var output = runTool(workingDir, List.of(tool, "--version"));
+
+		if(output.isNone())
+			return Maybe.none();
+
+		var version = new String(output.get(), StandardCharsets.UTF_8);
+
+		if(key.isSome())
+			TOOL_VERSIONS.put(key.get(), version);
+
+		return Maybe.some(version);
+	}
+
+	private static List<String> preprocessCommand(List<String> command)
+	{
+		var result = new ArrayList<String>();
+		var debugInfo = false;
+
+		for(var i = 0; i != command.size(); ++i)
+		{
+			var arg = command.get(i);
+
+			if(arg.equals("-o"))
+				++i;
+			else if(!arg.equals("-c"))
+				result.add(arg);
+
+			debugInfo |= arg.startsWith("-g");
+		}
+
+		result.add("-E");
+
+		// line markers only matter for debug info, which records the file and line of every statement
+		if(!debugInfo)
+			result.add("-P");
+
+		return result;
+	}
+
+	private Path entryPath(String key)
+	{
+		return dir.resolve(key.substring(0, 2)).resolve(key.substring(2));
+	}
+
+	private static Maybe<String> computeKey(Path workingDir, List<String> command, Path input, List<Path> dependencies, Path output,
+	                                        boolean preprocess) throws IOException
+	{
+		var version = toolVersion(workingDir, command.get(0));
+
+		if(version.isNone())
+			return Maybe.none();
+
+		var bytes = new ByteArrayOutputStream();
+		var data = new DataOutputStream(bytes);
+		data.writeUTF(version.get());
+
+		var debugInfo = false;
+
+		// input and output paths, including the depfile next to the output, differ between projects and build directories,
+		// but do not end up in the object...
+		for(var arg : command)
+		{
+			if(arg.equals(input.toString()))
+				data.writeUTF("<input>");
+			else if(arg.startsWith(output.toString()))
+				data.writeUTF("<output>" + arg.substring(output.toString().length()));
+			else
+				data.writeUTF(arg);
+
+			debugInfo |= arg.startsWith("-g");
+		}
+
+		// ...unless there is debug info, which refers to the source file by path
+		if(debugInfo)
+			data.writeUTF(workingDir.resolve(input).toAbsolutePath().toString());
+
+		if(preprocess)
+		{
+			// hashing the preprocessed source covers all included headers
+			var source = runTool(workingDir, preprocessCommand(command));
+
+			if(source.isNone())
+				return Maybe.none();
+
+			data.write(source.get());
+		}
+		else
+			data.write(Files.readAllBytes(workingDir.resolve(input)));
+
+		// files pulled in by other means than includes, e.g. .incbin
+		for(var dependency : dependencies)
+			data.write(Files.readAllBytes(workingDir.resolve(dependency)));
+
+		data.flush();
+		return Maybe.some(Hashing.sha256(bytes.toByteArray()));
+	}
+
+	public Maybe<String> key(Path workingDir, List<String> command, Path input, List<Path> dependencies, Path output, boolean preprocess)
+	{
+		try
+		{
+			return computeKey(workingDir, command, input, dependencies, output, preprocess);
+		}
+		catch(IOException ex)
+		{
+			// e.g. a missing input file, which the compiler will report
+			return Maybe.none();
+		}
+	}
+
+	public boolean fetch(String key, Path output)
+	{
+		var entry = entryPath(key);
+
+		if(!Files.exists(entry))
+			return false;
+
+		try
+		{
+			Files.deleteIfExists(output);
+
+			try
+			{
+				Files.createLink(output, entry);
+			}
+			catch(UnsupportedOperationException | FileSystemException ex)
+			{
+				// e.g. cache and build directory on different file systems
+				Files.copy(entry, output);
+			}
+
+			Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+			return true;
+		}
+		catch(IOException ex)
+		{
+			// evicted by another build in the meantime
+			return false;
+		}
+	}
+
+	public void store(String key, Path output)
+	{
+		var entry = entryPath(key);
+		var tmpPath = entry.resolveSibling(entry.getFileName() + "." + ProcessHandle.current().pid() + "." + Thread.currentThread().getId() + TMP_EXTENSION);
+
+		try
+		{
+			Files.createDirectories(entry.getParent());
+			Files.copy(output, tmpPath, StandardCopyOption.REPLACE_EXISTING);
+			Files.move(tmpPath, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			modified.set(true);
+		}
+		catch(IOException ex)
+		{
+			// the cache is only an optimization, the file will be compiled again next time
+			try
+			{
+				Files.deleteIfExists(tmpPath);
+			}
+			catch(IOException ignored)
+			{}
+		}
+	}
+
+	// walks the whole cache, hence done once per build rather than after every store, and not at all if nothing was stored
+	public void trim() throws IOException
+	{
+		if(!modified.getAndSet(false))
+			return;
+
+		var entries = new ArrayList<Entry>();
+
+		Files.walkFileTree(dir, new SimpleFileVisitor<>()
+		{
+			@Override
+			public FileVisitResult visitFile(Path path, BasicFileAttributes attrs)
+			{
+				if(!path.getFileName().toString().endsWith(TMP_EXTENSION))
+					entries.add(new Entry(path, attrs.size(), attrs.lastModifiedTime()));
+
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path path, IOException ex)
+			{
+				return FileVisitResult.CONTINUE;
+			}
+		});
+
+		var size = entries.stream().mapToLong(e -> e.size).sum();
+
+		if(size <= maxSize)
+			return;
+
+		entries.sort(Comparator.comparing(e -> e.lastUsed));
+
+		for(var entry : entries)
+		{
+			if(size <= maxSize)
+				break;
+
+			Files.deleteIfExists(entry.path);
+			size -= entry.size;
+		}
+	}
+}
@@ -21,20 +21,33 @@ import io.katana.compiler.backend.ResourceGenerator;
 import io.katana.compiler.backend.llvm.codegen.ProgramCodegen;
 import io.katana.compiler.diag.CompileException;
 import io.katana.compiler.diag.DiagnosticsManager;
+import io.katana.compiler.incremental.IncrementalState;
+import io.katana.compiler.parser.AstCache;
 import io.katana.compiler.parser.ProgramParser;
 import io.katana.compiler.platform.Os;
 import io.katana.compiler.platform.TargetTriple;
 import io.katana.compiler.scanner.SourceManager;
-import io.katana.compiler.utils.FileUtils;
+import io.katana.compiler.utils.Futures;
 import io.katana.compiler.utils.Maybe;
+import io.katana.compiler.utils.Rethrow;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 public class ProjectBuilder
@@ -44,27 +57,103 @@ public class ProjectBuilder
 	private static final String BUILD_TMPDIR = "tmp";
 	private static final String BUILD_OUTDIR = "out";
 	private static final String RESOURCES_FILE = "kt_resources.asm";
+	private static final String AST_CACHE_DIR = "ast-cache";
+	private static final String INCREMENTAL_STATE_FILE = "incremental-state";
+	private static final String BUILD_STATE_FILE = "build-state";
+	private static final String DEPFILE_EXTENSION = ".d";
+	private static final String KATANA_STEP = "katana";
 
+	// the output is captured and printed in one piece, as several processes run concurrently
 	private static void runBuildCommand(Path dir, BuildTarget build, String description, List<String> command)
 	{
-		System.out.printf("[%s] %s: %s\n", build.name, description, String.join(" ", command));
-
 		var builder = new ProcessBuilder(command);
-		builder.inheritIO();
+		builder.redirectErrorStream(true);
 		builder.directory(dir.toFile());
 
+		Process process;
+
+		try
+		{
+			process = builder.start();
+		}
+		catch(IOException ex)
+		{
+			throw new RuntimeException(ex);
+		}
+
 		try
 		{
-			var process = builder.start();
+			var output = new String(process.getInputStream().readAllBytes());
 			var exitCode = process.waitFor();
 
+			System.out.print(String.format("[%s] %s: %s\n", build.name, description, String.join(" ", command)) + output);
+
 			if(exitCode != 0)
 				throw new CompileException(String.format("[%s] Error: Process '%s' exited with code %s.", build.name, command.get(0), exitCode));
 		}
-		catch(IOException | InterruptedException ex)
+		catch(IOException ex)
 		{
+			process.destroyForcibly();
 			throw new RuntimeException(ex);
 		}
+		catch(InterruptedException ex)
+		{
+			// the process must not outlive the build
+			process.destroyForcibly();
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private static void runCompileCommand(Path root, BuildTarget build, List<String> command, Path input, List<Path> dependencies, Path output,
+	                                      boolean preprocess, Maybe<ObjectCache> cache)
+	{
+		if(cache.isNone())
+		{
+			runBuildCommand(root, build, "Compiling", command);
+			return;
+		}
+
+		var key = cache.get().key(root, command, input, dependencies, output, preprocess);
+
+		if(key.isSome() && cache.get().fetch(key.get(), root.resolve(output)))
+		{
+			System.out.printf("[%s] Reusing cached object: %s\n", build.name, output);
+			return;
+		}
+
+		runBuildCommand(root, build, "Compiling", command);
+
+		if(key.isSome())
+			cache.get().store(key.get(), root.resolve(output));
+	}
+
+	// headers are only known from the depfile written by the compiler, all other inputs are known upfront
+	private static void runCompileCommand(Path root, BuildTarget build, List<String> command, Path input, List<Path> dependencies, Path output,
+	                                      Maybe<Path> depfile, boolean preprocess, Maybe<ObjectCache> cache, Maybe<BuildState> state)
+	{
+		var step = output.toString();
+
+		if(state.isNone())
+		{
+			runCompileCommand(root, build, command, input, dependencies, output, preprocess, cache);
+			return;
+		}
+
+		if(state.get().isUpToDate(step, command))
+			return;
+
+		state.get().invalidate(step);
+		runCompileCommand(root, build, command, input, dependencies, output, preprocess, cache);
+
+		var inputs = depfile.isSome() ? Depfile.load(root.resolve(depfile.get())) : Maybe.some(List.of(input));
+
+		if(inputs.isNone())
+			return;
+
+		var allInputs = new ArrayList<>(inputs.get());
+		allInputs.addAll(dependencies);
+		state.get().record(step, command, allInputs, List.of(output));
 	}
 
 	private static void addDefaultDefines(List<String> command, BuildTarget build, TargetTriple target)
@@ -87,7 +176,8 @@ public class ProjectBuilder
 		command.add("-I" + KATANA_INCLUDE_DIR);
 	}
 
-	private static Path compileAsmFile(Path root, Path buildDir, BuildTarget build, Path path, TargetTriple target)
+	private static Path compileAsmFile(Path root, Path buildDir, BuildTarget build, Path path, List<Path> dependencies, TargetTriple target,
+	                                   Maybe<ObjectCache> cache, Maybe<BuildState> state)
 	{
 		var command = new ArrayList<String>();
 		command.add("clang");
@@ -101,11 +191,12 @@ public class ProjectBuilder
 		var outputPath = buildDir.resolve(filename);
 		command.add(outputPath.toString());
 
-		runBuildCommand(root, build, "Compiling", command);
+		runCompileCommand(root, build, command, path, dependencies, outputPath, Maybe.none(), false, cache, state);
 		return outputPath;
 	}
 
-	private static Path compileCFile(Path root, Path buildDir, BuildTarget build, Path path, TargetTriple target)
+	private static Path compileCFile(Path root, Path buildDir, BuildTarget build, Path path, TargetTriple target, Maybe<ObjectCache> cache,
+	                                 Maybe<BuildState> state)
 	{
 		var command = new ArrayList<String>();
 		command.add("clang");
@@ -114,19 +205,25 @@ public class ProjectBuilder
 		addDefaultDefines(command, build, target);
 		addDefaultIncludes(command);
 
+		var filename = path.getFileName() + objectFileExtension(target);
+		var outputPath = buildDir.resolve(filename);
+		var depfilePath = buildDir.resolve(filename + DEPFILE_EXTENSION);
+
+		command.add("-MD");
+		command.add("-MF");
+		command.add(depfilePath.toString());
+
 		command.add("-c");
 		command.add(path.toString());
 		command.add("-o");
-
-		var filename = path.getFileName() + objectFileExtension(target);
-		var outputPath = buildDir.resolve(filename);
 		command.add(outputPath.toString());
 
-		runBuildCommand(root, build, "Compiling", command);
+		runCompileCommand(root, build, command, path, List.of(), outputPath, Maybe.some(depfilePath), true, cache, state);
 		return outputPath;
 	}
 
-	private static Path compileCppFile(Path root, Path buildDir, BuildTarget build, Path path, TargetTriple target)
+	private static Path compileCppFile(Path root, Path buildDir, BuildTarget build, Path path, TargetTriple target, Maybe<ObjectCache> cache,
+	                                   Maybe<BuildState> state)
 	{
 		var command = new ArrayList<String>();
 		command.add("clang++");
@@ -135,19 +232,25 @@ public class ProjectBuilder
 		addDefaultDefines(command, build, target);
 		addDefaultIncludes(command);
 
+		var filename = path.getFileName() + objectFileExtension(target);
+		var outputPath = buildDir.resolve(filename);
+		var depfilePath = buildDir.resolve(filename + DEPFILE_EXTENSION);
+
+		command.add("-MD");
+		command.add("-MF");
+		command.add(depfilePath.toString());
+
 		command.add("-c");
 		command.add(path.toString());
 		command.add("-o");
-
-		var filename = path.getFileName() + objectFileExtension(target);
-		var outputPath = buildDir.resolve(filename);
 		command.add(outputPath.toString());
 
-		runBuildCommand(root, build, "Compiling", command);
+		runCompileCommand(root, build, command, path, List.of(), outputPath, Maybe.some(depfilePath), true, cache, state);
 		return outputPath;
 	}
 
-	private static Path compileLlvmFile(Path root, Path buildDir, BuildTarget build, TargetTriple target, Path path)
+	private static Path compileLlvmFile(Path root, Path buildDir, BuildTarget build, TargetTriple target, Path path, Maybe<ObjectCache> cache,
+	                                    Maybe<BuildState> state)
 	{
 		var command = new ArrayList<String>();
 		command.add("clang");
@@ -163,7 +266,7 @@ public class ProjectBuilder
 		var outputPath = buildDir.resolve(filename);
 		command.add(outputPath.toString());
 
-		runBuildCommand(root, build, "Compiling", command);
+		runCompileCommand(root, build, command, path, List.of(), outputPath, Maybe.none(), false, cache, state);
 		return outputPath;
 	}
 
@@ -209,11 +312,12 @@ public class ProjectBuilder
 				findDependenciesRecursively(dependency, result);
 	}
 
-	private static Path link(Path root, Path buildDir, BuildTarget build, List<Path> filePaths, TargetTriple target)
+	private static Path link(Path root, Path buildDir, BuildTarget build, List<Path> filePaths, TargetTriple target, Maybe<BuildState> state)
 	{
 		var binaryName = build.name + fileExtensionFor(build.type, target);
 		var buildPath = buildDir.resolve(binaryName);
 		var command = new ArrayList<String>();
+		var inputs = new ArrayList<>(filePaths);
 
 		if(build.type == BuildType.LIBRARY_STATIC)
 		{
@@ -253,6 +357,12 @@ public class ProjectBuilder
 			for(var dependency : dependencies)
 				command.add("-l" + dependency.name);
 
+			for(var dependency : dependencies)
+			{
+				var dependencyName = dependency.name + fileExtensionFor(dependency.type, target);
+				inputs.add(buildRoot.resolve(dependency.name).resolve(BUILD_OUTDIR).resolve(dependencyName));
+			}
+
 			for(var lib : build.systemLibraries)
 				command.add("-l" + lib);
 
@@ -264,17 +374,30 @@ public class ProjectBuilder
 		// append all source files
 		filePaths.stream().map(Path::toString).forEach(command::add);
 
+		var step = buildPath.toString();
+
+		if(state.isSome() && state.get().isUpToDate(step, command))
+			return buildPath;
+
+		if(state.isSome())
+			state.get().invalidate(step);
+
 		runBuildCommand(root, build, "Linking", command);
+
+		if(state.isSome())
+			state.get().record(step, command, inputs, List.of(buildPath));
+
 		return buildPath;
 	}
 
-	private static Path compileFile(Path root, Path buildDir, BuildTarget build, FileType fileType, Path path, TargetTriple target)
+	private static Path compileFile(Path root, Path buildDir, BuildTarget build, FileType fileType, Path path, TargetTriple target,
+	                                Maybe<ObjectCache> cache, Maybe<BuildState> state)
 	{
 		return switch(fileType)
 		{
-		case ASM -> compileAsmFile(root, buildDir, build, path, target);
-		case C   -> compileCFile  (root, buildDir, build, path, target);
-		case CPP -> compileCppFile(root, buildDir, build, path, target);
+		case ASM -> compileAsmFile(root, buildDir, build, path, List.of(), target, cache, state);
+		case C   -> compileCFile  (root, buildDir, build, path, target, cache, state);
+		case CPP -> compileCppFile(root, buildDir, build, path, target, cache, state);
 		default  -> throw new AssertionError("unreachable");
 		};
 	}
@@ -284,34 +407,83 @@ public class ProjectBuilder
 		return String.format("%.3f s", nanos / 1000 / 1000 / 1000.f);
 	}
 
-	private static Maybe<Path> compileKatanaSources(DiagnosticsManager diag, BuildTarget build, PlatformContext context, Path buildDir, BuildOptions options) throws IOException
+	private static ExecutorService newExecutor(String name, int threads)
+	{
+		// daemon threads, a failed build must not keep the vm alive
+		return Executors.newFixedThreadPool(threads, runnable ->
+		{
+			var thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private static List<Path> compileKatanaSources(DiagnosticsManager diag, Path root, BuildTarget build, PlatformContext context, Path buildDir,
+	                                               BuildOptions options, ExecutorService executor, Maybe<BuildState> state) throws IOException
 	{
 		var katanaFiles = build.sourceFiles.get(FileType.KATANA);
 
 		if(katanaFiles == null)
-			return Maybe.none();
+			return Collections.emptyList();
+
+		// the frontend is skipped as a whole if none of the sources changed; the command lists the sources,
+		// so that adding or removing one is a change as well
+		var configuration = String.format("%s %s %s %s", Katana.VERSION, context.target(), build.type, options.partitioning);
+		var command = new ArrayList<String>();
+		command.add(KATANA_STEP);
+		command.add(configuration);
+		command.add(String.valueOf(build.entryPoint));
+		katanaFiles.stream().map(Path::toString).sorted().forEach(command::add);
 
-		var katanaOutputFile = buildDir.resolve(build.name + ".ll");
-		System.out.printf("[%s] Compiling Katana sources: %s\n", build.name, katanaOutputFile);
+		if(state.isSome() && state.get().isUpToDate(KATANA_STEP, command))
+			return state.get().outputs(KATANA_STEP);
 
-		var startTime = System.nanoTime();
+		if(state.isSome())
+			state.get().invalidate(KATANA_STEP);
 
-		var sourceManager = SourceManager.loadFiles(build.sourceFiles.get(FileType.KATANA));
+		System.out.printf("[%s] Compiling Katana sources\n", build.name);
+
+		var startTime = System.nanoTime();
+		var sourceManager = SourceManager.loadFiles(root, katanaFiles, executor);
 		var loadTime = System.nanoTime();
 
-		var ast = ProgramParser.parse(sourceManager, diag);
+		var astCache = options.useCaches ? Maybe.some(new AstCache(root.resolve(buildDir).resolve(AST_CACHE_DIR), Katana.VERSION)) : Maybe.<AstCache>none();
+		var ast = ProgramParser.parse(sourceManager, diag, executor, astCache);
 		var parseTime = System.nanoTime();
 
-		var program = ProgramValidator.validate(ast, context);
+		var incrementalStatePath = root.resolve(buildDir).resolve(INCREMENTAL_STATE_FILE);
+		var incremental = options.useCaches ? Maybe.some(IncrementalState.load(incrementalStatePath, configuration)) : Maybe.<IncrementalState>none();
+
+		var program = ProgramValidator.validate(ast, context, executor, incremental);
 		var analysisTime = System.nanoTime();
 
 		if(!diag.successful())
 			throw new CompileException(diag.summary());
 
-		var module = ProgramCodegen.generate(build, program, context);
+		var modules = ProgramCodegen.generate(build, program, context, executor, options.partitioning, incremental);
 		var codegenTime = System.nanoTime();
 
-		FileUtils.writeFile(module.toString(), katanaOutputFile);
+		var katanaOutputFiles = new ArrayList<Path>();
+
+		for(var entry : modules.entrySet())
+		{
+			var katanaOutputFile = buildDir.resolve(entry.getKey() + ".ll");
+			System.out.printf("[%s] Writing LLVM module: %s\n", build.name, katanaOutputFile);
+
+			try(var out = new OutputStreamWriter(Files.newOutputStream(root.resolve(katanaOutputFile)), StandardCharsets.UTF_8))
+			{
+				entry.getValue().write(out);
+			}
+
+			katanaOutputFiles.add(katanaOutputFile);
+		}
+
+		if(incremental.isSome())
+			incremental.get().store(incrementalStatePath);
+
+		if(state.isSome())
+			state.get().record(KATANA_STEP, command, List.copyOf(katanaFiles), katanaOutputFiles);
+
 		var writeTime = System.nanoTime();
 
 		if(options.printBuildMetrics)
@@ -325,47 +497,123 @@ public class ProjectBuilder
 			System.out.printf("[%s] Total:           %s\n", build.name, formatAsSeconds(writeTime - startTime));
 		}
 
-		return Maybe.some(katanaOutputFile);
+		return katanaOutputFiles;
 	}
 
-	public static Path buildTarget(DiagnosticsManager diag, Path root, Path buildDir, BuildTarget build, PlatformContext context, BuildOptions options) throws IOException
+	private static Path buildTarget(DiagnosticsManager diag, Path root, Path buildDir, BuildTarget build, PlatformContext context, BuildOptions options,
+	                                ExecutorService frontendExecutor, ExecutorService executor, CompletableFuture<?> cancellation) throws IOException
 	{
 		var tmpDir = buildDir.resolve(BUILD_TMPDIR);
 		var outDir = buildDir.resolve(BUILD_OUTDIR);
 
-		Files.createDirectories(buildDir);
-		Files.createDirectories(tmpDir);
-		Files.createDirectories(outDir);
+		Files.createDirectories(root.resolve(buildDir));
+		Files.createDirectories(root.resolve(tmpDir));
+		Files.createDirectories(root.resolve(outDir));
+
+		var objectCache = options.useCaches
+		                  ? Maybe.some(new ObjectCache(options.objectCacheDir, options.objectCacheSize))
+		                  : Maybe.<ObjectCache>none();
 
-		var katanaOutput = compileKatanaSources(diag, build, context, tmpDir, options);
-		var objectFiles = new ArrayList<Path>();
+		var buildStatePath = buildDir.resolve(BUILD_STATE_FILE);
+		var buildState = options.useCaches ? Maybe.some(BuildState.load(root, buildStatePath)) : Maybe.<BuildState>none();
 
-		if(!build.resourceFiles.isEmpty())
+		try
 		{
-			var resourcePath = tmpDir.resolve(RESOURCES_FILE);
-			System.out.printf("[%s] Generating resource file: %s\n", build.name, resourcePath);
-			ResourceGenerator.generate(context.target(), build.resourceFiles, resourcePath);
-			objectFiles.add(compileAsmFile(root, tmpDir, build, resourcePath, context.target()));
+			return buildTarget(diag, root, tmpDir, outDir, build, context, options, frontendExecutor, executor, cancellation, objectCache, buildState);
 		}
+		finally
+		{
+			// also after a failed build, so everything that did succeed is not done again
+			if(buildState.isSome())
+				buildState.get().store(buildStatePath);
+		}
+	}
+
+	private static Path buildTarget(DiagnosticsManager diag, Path root, Path tmpDir, Path outDir, BuildTarget build, PlatformContext context,
+	                                BuildOptions options, ExecutorService frontendExecutor, ExecutorService executor, CompletableFuture<?> cancellation,
+	                                Maybe<ObjectCache> objectCache, Maybe<BuildState> buildState) throws IOException
+	{
+		var jobs = new JobGroup(executor);
+		var resourceObjectFiles = new ArrayList<Future<Path>>();
+		var katanaObjectFiles = new ArrayList<Future<Path>>();
+		var otherObjectFiles = new ArrayList<Future<Path>>();
 
-		if(katanaOutput.isSome())
-			objectFiles.add(compileLlvmFile(root, tmpDir, build, context.target(), katanaOutput.get()));
+		// another target failed
+		cancellation.whenComplete((result, ex) -> jobs.cancel());
 
-		for(var entry : build.sourceFiles.entrySet())
+		List<Path> objectFilePaths;
+
+		try
 		{
-			var type = entry.getKey();
-			var paths = entry.getValue();
+			if(!build.resourceFiles.isEmpty())
+			{
+				var resourcePath = tmpDir.resolve(RESOURCES_FILE);
+				System.out.printf("[%s] Generating resource file: %s\n", build.name, resourcePath);
+				ResourceGenerator.generate(context.target(), root, build.resourceFiles, root.resolve(resourcePath));
+				var resources = List.copyOf(build.resourceFiles.values());
+				resourceObjectFiles.add(jobs.submit(() -> compileAsmFile(root, tmpDir, build, resourcePath, resources, context.target(), objectCache, buildState)));
+			}
+
+			for(var entry : build.sourceFiles.entrySet())
+			{
+				var type = entry.getKey();
+				var paths = entry.getValue();
+
+				if(type != FileType.KATANA)
+					for(var path : paths)
+						otherObjectFiles.add(jobs.submit(() -> compileFile(root, tmpDir, build, type, path, context.target(), objectCache, buildState)));
+			}
+
+			// the other sources compile in the background while the katana frontend runs
+			var katanaOutputFiles = compileKatanaSources(diag, root, build, context, tmpDir, options, frontendExecutor, buildState);
+
+			// a compilation or another target may have failed while the frontend ran
+			jobs.throwIfFailed();
+
+			for(var path : katanaOutputFiles)
+				katanaObjectFiles.add(jobs.submit(() -> compileLlvmFile(root, tmpDir, build, context.target(), path, objectCache, buildState)));
+
+			var objectFiles = new ArrayList<Future<Path>>();
+			objectFiles.addAll(resourceObjectFiles);
+			objectFiles.addAll(katanaObjectFiles);
+			objectFiles.addAll(otherObjectFiles);
 
-			if(type != FileType.KATANA)
-				for(var path : paths)
-					objectFiles.add(compileFile(root, tmpDir, build, type, path, context.target()));
+			objectFilePaths = jobs.join(objectFiles);
+
+			// the target is not linked if another one failed in the meantime
+			jobs.throwIfFailed();
+		}
+		finally
+		{
+			// after a failure the compilations that did not start yet are called off, nothing of the target may be left running
+			jobs.finish();
 		}
 
-		var outputPath = link(root, outDir, build, objectFiles, context.target());
+		var outputPath = link(root, outDir, build, objectFilePaths, context.target(), buildState);
+
+		if(objectCache.isSome())
+			objectCache.get().trim();
+
 		System.out.println(String.format("[%s] Target built successfully.", build.name));
 		return outputPath;
 	}
 
+	public static Path buildTarget(DiagnosticsManager diag, Path root, Path buildDir, BuildTarget build, PlatformContext context, BuildOptions options) throws IOException
+	{
+		var frontendExecutor = newExecutor("katana-frontend", options.frontendThreads);
+		var executor = newExecutor("katana-backend", options.jobs);
+
+		try
+		{
+			return buildTarget(diag, root, buildDir, build, context, options, frontendExecutor, executor, new CompletableFuture<Void>());
+		}
+		finally
+		{
+			frontendExecutor.shutdown();
+			executor.shutdown();
+		}
+	}
+
 	private static void addTargetsRecursively(List<BuildTarget> order, BuildTarget target)
 	{
 		for(var dependency : target.dependencies)
@@ -401,6 +649,20 @@ public class ProjectBuilder
 		return removeDuplicates(order);
 	}
 
+	private static void rethrow(Throwable ex) throws IOException
+	{
+		if(ex instanceof CompletionException)
+			ex = ex.getCause();
+
+		if(ex instanceof UncheckedIOException)
+			throw ((UncheckedIOException)ex).getCause();
+
+		Rethrow.of(ex);
+	}
+
+	// every target starts as soon as its dependencies are built. all of them share one pool for the frontend and one for the
+	// compiler processes, so concurrently built targets stay within --jobs processes and the frontend threads in total;
+	// a target's own thread only waits on those pools, so targets get threads of their own
 	public static void buildTargets(DiagnosticsManager diag, Path root, Path buildDir, List<BuildTarget> targets, PlatformContext context, BuildOptions options) throws IOException
 	{
 		if(buildDir.startsWith(root))
@@ -409,10 +671,92 @@ public class ProjectBuilder
 		var targetsInBuildOrder = determineBuildOrder(targets);
 		var targetListing = targetsInBuildOrder.stream().map(t -> t.name).collect(Collectors.joining(", "));
 
-		System.out.printf("[*] Building the following targets in order: %s\n", targetListing);
+		System.out.printf("[*] Building the following targets: %s\n", targetListing);
+
+		var frontendExecutor = newExecutor("katana-frontend", options.frontendThreads);
+		var executor = newExecutor("katana-backend", options.jobs);
+		var targetExecutor = Executors.newCachedThreadPool(runnable ->
+		{
+			var thread = new Thread(runnable, "katana-target");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		var futures = new IdentityHashMap<BuildTarget, CompletableFuture<Void>>();
+		var claims = new IdentityHashMap<BuildTarget, AtomicBoolean>();
+		var failure = new CompletableFuture<Void>();
+		var targetDiags = new ArrayList<DiagnosticsManager>();
 
 		for(var target : targetsInBuildOrder)
-			ProjectBuilder.buildTarget(diag, root, buildDir.resolve(target.name), target, context, options);
+		{
+			var dependencies = target.dependencies.stream()
+			                                      .map(futures::get)
+			                                      .toArray(CompletableFuture[]::new);
+
+			var targetDiag = diag.fork();
+			var targetBuildDir = buildDir.resolve(target.name);
+			targetDiags.add(targetDiag);
+
+			// whichever of the target itself and the cancellation claims it first decides whether it runs
+			var claimed = new AtomicBoolean();
+
+			var future = CompletableFuture.allOf(dependencies).thenRunAsync(() ->
+			{
+				if(!claimed.compareAndSet(false, true))
+					throw new CancellationException();
+
+				try
+				{
+					buildTarget(targetDiag, root, targetBuildDir, target, context, options, frontendExecutor, executor, failure);
+				}
+				catch(IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, targetExecutor);
+
+			future.whenComplete((result, ex) ->
+			{
+				if(ex != null)
+					failure.completeExceptionally(ex);
+			});
+
+			futures.put(target, future);
+			claims.put(target, claimed);
+		}
+
+		// once a target failed, those that have not started yet are called off, running ones cancel their compilations
+		failure.whenComplete((result, ex) ->
+		{
+			for(var target : targetsInBuildOrder)
+				if(claims.get(target).compareAndSet(false, true))
+					futures.get(target).cancel(false);
+		});
+
+		var all = CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new));
+
+		try
+		{
+			CompletableFuture.anyOf(all, failure).join();
+		}
+		catch(CompletionException ex)
+		{
+			rethrow(ex.getCause());
+		}
+		finally
+		{
+			// targets already running are waited for, so that no process or write of this build outlives it
+			// and their diagnostics are complete
+			for(var future : futures.values())
+				Futures.awaitQuietly(future);
+
+			frontendExecutor.shutdown();
+			executor.shutdown();
+			targetExecutor.shutdown();
+
+			for(var targetDiag : targetDiags)
+				diag.merge(targetDiag);
+		}
 
 		System.out.println("[*] All targets built successfully.");
 	}
@@ -86,16 +86,16 @@ public class ProjectManager
 		paths.add(path);
 	}
 
-	private static void discoverSourceFiles(Path path, Map<FileType, Set<Path>> files) throws IOException
+	private static void discoverSourceFiles(Path root, Path path, Map<FileType, Set<Path>> files) throws IOException
 	{
-		var file = path.toFile();
+		var file = root.resolve(path).toFile();
 
 		if(!file.exists())
 			configError("file or directory '%s' does not exit", path);
 
 		if(file.isDirectory())
 		{
-			Files.walkFileTree(path, new SimpleFileVisitor<>()
+			Files.walkFileTree(root.resolve(path), new SimpleFileVisitor<>()
 			{
 				@Override
 				public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) throws IOException
@@ -105,7 +105,7 @@ public class ProjectManager
 						var type = FileType.of(path.getFileName().toString());
 
 						if(type.isSome())
-							addFile(files, type.unwrap(), path);
+							addFile(files, type.unwrap(), root.relativize(path));
 					}
 
 					return FileVisitResult.CONTINUE;
@@ -157,7 +157,7 @@ public class ProjectManager
 		var result = new HashMap<FileType, Set<Path>>();
 
 		for(var path : paths)
-			discoverSourceFiles(path, result);
+			discoverSourceFiles(root, path, result);
 
 		return result;
 	}
@@ -491,9 +491,9 @@ public class ProjectManager
 		FileUtils.copyDirectory(PROJECT_TEMPLATE_PATH, path);
 	}
 
-	public static Path locateProjectRoot() throws IOException
+	public static Path locateProjectRoot(Path workingDir) throws IOException
 	{
-		var current = Paths.get("").toRealPath();
+		var current = workingDir.toRealPath();
 
 		for(; current != null; current = current.getParent())
 			if(current.resolve(PROJECT_CONFIG_NAME).toFile().exists())
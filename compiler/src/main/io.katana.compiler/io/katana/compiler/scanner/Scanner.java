@@ -20,26 +20,24 @@ import io.katana.compiler.utils.Fraction;
 import io.katana.compiler.utils.StringUtils;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
 
 public class Scanner
 {
 	private final SourceFile file;
 	private final DiagnosticsManager diag;
+	private final TokenBuffer tokens = new TokenBuffer();
 	private int tokenOffset = 0;
 	private int groupOffset = 0;
 	private int charOffset = 0;
 
-	public static List<Token> tokenize(SourceFile file, DiagnosticsManager diag)
+	public static TokenBuffer tokenize(SourceFile file, DiagnosticsManager diag)
 	{
-		var result = new ArrayList<Token>();
 		var scanner = new Scanner(file, diag);
 
-		for(Token token; (token = scanner.next()) != null;)
-			result.add(token.withSourceRange(scanner.tokenOffset, scanner.charOffset - scanner.tokenOffset));
+		while(scanner.next())
+			continue;
 
-		return result;
+		return scanner.tokens;
 	}
 
 	private Scanner(SourceFile file, DiagnosticsManager diag)
@@ -48,58 +46,76 @@ public class Scanner
 		this.diag = diag;
 	}
 
-	private Token next()
+	private boolean next()
 	{
 		for(;;)
 		{
 			skipWhitespaceAndComments();
 
 			if(eof())
-				return null;
+				return false;
 
 			tokenOffset = charOffset;
 			var cp = peek();
 
 			switch(cp)
 			{
-			case ',': skip(); return Tokens.PUNCT_COMMA;
-			case '$': skip(); return Tokens.PUNCT_DOLLAR;
-			case '{': skip(); return Tokens.PUNCT_LBRACE;
-			case '[': skip(); return Tokens.PUNCT_LBRACKET;
-			case '(': skip(); return Tokens.PUNCT_LPAREN;
-			case '}': skip(); return Tokens.PUNCT_RBRACE;
-			case ']': skip(); return Tokens.PUNCT_RBRACKET;
-			case ')': skip(); return Tokens.PUNCT_RPAREN;
-			case ';': skip(); return Tokens.PUNCT_SCOLON;
-			case '@': skip(); return label();
+			case ',': skip(); emit(Tokens.PUNCT_COMMA); return true;
+			case '$': skip(); emit(Tokens.PUNCT_DOLLAR); return true;
+			case '{': skip(); emit(Tokens.PUNCT_LBRACE); return true;
+			case '[': skip(); emit(Tokens.PUNCT_LBRACKET); return true;
+			case '(': skip(); emit(Tokens.PUNCT_LPAREN); return true;
+			case '}': skip(); emit(Tokens.PUNCT_RBRACE); return true;
+			case ']': skip(); emit(Tokens.PUNCT_RBRACKET); return true;
+			case ')': skip(); emit(Tokens.PUNCT_RPAREN); return true;
+			case ';': skip(); emit(Tokens.PUNCT_SCOLON); return true;
+			case '@': skip(); label(); return true;
 			default: break;
 			}
 
 			if(cp == '"')
 			{
 				skip();
-				return stringLiteral();
+				stringLiteral();
+				return true;
 			}
 
-			var cps = file.codepoints();
-
-			if(CharClassifier.isDecDigit(cp) || cp == '.' && charOffset + 1 < cps.length && CharClassifier.isDecDigit(cps[charOffset + 1]))
-				return numericLiteral();
+			if(CharClassifier.isDecDigit(cp) || cp == '.' && charOffset + 1 < file.length() && CharClassifier.isDecDigit(file.codepoint(charOffset + 1)))
+			{
+				numericLiteral();
+				return true;
+			}
 
 			if(CharClassifier.isOpChar(cp))
-				return operatorSeq();
+			{
+				operatorSeq();
+				return true;
+			}
 
 			if(CharClassifier.isIdentifierHead(cp))
-				return identifierOrKeyword();
+			{
+				identifierOrKeyword();
+				return true;
+			}
 
 			skip();
 			raiseCharError(ScannerDiagnostics.INVALID_CODEPOINT, StringUtils.formatCodepoint(cp));
 		}
 	}
 
-	private Token operatorSeq()
+	private void emit(Token prototype)
 	{
-		var before = charOffset == 0 ? ' ' : file.codepoints()[charOffset - 1];
+		emit(prototype.category, prototype.type, prototype.value);
+	}
+
+	private void emit(TokenCategory category, TokenType type, Object value)
+	{
+		tokens.add(tokenOffset, charOffset - tokenOffset, category, type, value);
+	}
+
+	private void operatorSeq()
+	{
+		var before = charOffset == 0 ? ' ' : file.codepoint(charOffset - 1);
 
 		var builder = new StringBuilder();
 
@@ -107,7 +123,10 @@ public class Scanner
 		while(!eof() && CharClassifier.isOpChar(peek()));
 
 		if(builder.toString().equals("..."))
-			return Tokens.PUNCT_ELLIPSIS;
+		{
+			emit(Tokens.PUNCT_ELLIPSIS);
+			return;
+		}
 
 		var after = eof() ? ' ' : peek();
 
@@ -123,10 +142,10 @@ public class Scanner
 		else
 			type = TokenType.OP_INFIX;
 
-		return Tokens.op(builder.toString(), type);
+		emit(TokenCategory.OP, type, builder.toString());
 	}
 
-	private Token label()
+	private void label()
 	{
 		var builder = new StringBuilder();
 
@@ -136,13 +155,14 @@ public class Scanner
 		if(builder.length() == 0)
 		{
 			raiseTokenError(ScannerDiagnostics.EMPTY_LABEL);
-			return Tokens.label(null);
+			emit(TokenCategory.LABEL, TokenType.LABEL, null);
+			return;
 		}
 
-		return Tokens.label(builder.toString());
+		emit(TokenCategory.LABEL, TokenType.LABEL, builder.toString());
 	}
 
-	private Token stringLiteral()
+	private void stringLiteral()
 	{
 		var invalid = false;
 		var valueBuilder = new StringBuilder();
@@ -165,7 +185,7 @@ public class Scanner
 		else
 			skip();
 
-		return Tokens.stringLiteral(invalid ? null : valueBuilder.toString());
+		emit(TokenCategory.LIT, TokenType.LIT_STRING, invalid ? null : valueBuilder.toString());
 	}
 
 	private int stringCodepoint()
@@ -280,14 +300,20 @@ public class Scanner
 		throw new AssertionError("invalid argument");
 	}
 
-	private Token identifierOrKeyword()
+	private void identifierOrKeyword()
 	{
 		var builder = new StringBuilder();
 
 		do builder.appendCodePoint(consume());
 		while(!eof() && CharClassifier.isIdentifierTail(peek()));
 
-		return checkForKeywords(builder.toString());
+		var value = builder.toString();
+		var keyword = checkForKeywords(value);
+
+		if(keyword != null)
+			emit(keyword);
+		else
+			emit(TokenCategory.IDENT, TokenType.IDENT, value);
 	}
 
 	private Token checkForKeywords(String value)
@@ -348,11 +374,11 @@ public class Scanner
 		case "typeof"  -> Tokens.TYPE_TYPEOF;
 		case "void"    -> Tokens.TYPE_VOID;
 
-		default -> Tokens.identifier(value);
+		default -> null;
 		};
 	}
 
-	private Token numericLiteral()
+	private void numericLiteral()
 	{
 		var invalid = false;
 		var literal = new StringBuilder();
@@ -501,7 +527,7 @@ public class Scanner
 		                             ? floatingPointLiteralToFraction(literal.toString(), base)
 		                             : new BigInteger(literal.toString(), base);
 
-		return Tokens.numericLiteral(type, value);
+		emit(TokenCategory.LIT, type, value);
 	}
 
 	private Fraction floatingPointLiteralToFraction(String literal, int base)
@@ -606,12 +632,12 @@ public class Scanner
 
 	private boolean eof()
 	{
-		return charOffset == file.codepoints().length;
+		return charOffset == file.length();
 	}
 
 	private int peek()
 	{
-		return file.codepoints()[charOffset];
+		return file.codepoint(charOffset);
 	}
 
 	private void skip()
@@ -14,89 +14,82 @@
 
 package io.katana.compiler.scanner;
 
+import io.katana.compiler.utils.Hashing;
+
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 public class SourceFile
 {
-	private static class Line
-	{
-		public int number;
-		public int length;
-
-		public Line(int number, int length)
-		{
-			this.number = number;
-			this.length = length;
-		}
-	}
-
 	private final Path path;
+
+	// offsets are in codepoints; pure ascii files, by far the most common case,
+	// are scanned straight from the file contents, everything else is decoded once
+	private final byte[] ascii;
 	private final int[] codepoints;
-	private final TreeMap<Integer, Line> linesByOffset;
-	private final List<String> lines;
+	private final int length;
 
-	private SourceFile(Path path, int[] codepoints, TreeMap<Integer, Line> linesByOffset, List<String> lines)
+	private final int[] lineOffsets;
+	private final String[] lines;
+
+	private final String digest;
+
+	private SourceFile(Path path, byte[] ascii, int[] codepoints, String digest)
 	{
 		this.path = path;
+		this.ascii = ascii;
 		this.codepoints = codepoints;
-		this.linesByOffset = linesByOffset;
-		this.lines = lines;
+		this.digest = digest;
+		this.length = ascii != null ? ascii.length : codepoints.length;
+		this.lineOffsets = findLineOffsets();
+		this.lines = new String[lineOffsets.length];
 	}
 
-	public static SourceFile load(Path path) throws IOException
+	public static SourceFile load(Path root, Path path) throws IOException
 	{
-		var bytes = Files.readAllBytes(path);
+		var bytes = Files.readAllBytes(root.resolve(path));
 		return fromBytes(path, bytes);
 	}
 
 	public static SourceFile fromBytes(Path path, byte[] bytes)
 	{
-		var codepoints = new String(bytes, StandardCharsets.UTF_8).codePoints().toArray();
-
-		var linesByOffset = new TreeMap<Integer, Line>();
+		var digest = Hashing.sha256(bytes);
 
-		var lineOffset = 0;
-		var lineNumber = 0;
+		if(isAscii(bytes))
+			return new SourceFile(path, bytes, null, digest);
 
-		for(var i = 0; i != codepoints.length; ++i)
-			if(codepoints[i] == '\n')
-			{
-				linesByOffset.put(lineOffset, new Line(lineNumber, i - lineOffset));
+		var codepoints = new String(bytes, StandardCharsets.UTF_8).codePoints().toArray();
+		return new SourceFile(path, null, codepoints, digest);
+	}
 
-				lineOffset = i + 1;
-				++lineNumber;
-			}
+	private static boolean isAscii(byte[] bytes)
+	{
+		for(var b : bytes)
+			if(b < 0)
+				return false;
 
-		if(lineOffset != codepoints.length)
-			linesByOffset.put(lineNumber, new Line(lineNumber, codepoints.length - lineOffset));
+		return true;
+	}
 
-		var lines = new ArrayList<String>();
+	private int[] findLineOffsets()
+	{
+		var count = 1;
 
-		var lineStart = 0;
+		for(var i = 0; i != length; ++i)
+			if(codepoint(i) == '\n')
+				++count;
 
-		for(var i = 0; i != bytes.length; ++i)
-			if(bytes[i] == '\n')
-			{
-				var lineBytes = new byte[i - lineStart];
-				System.arraycopy(bytes, lineStart, lineBytes, 0, lineBytes.length);
-				lines.add(new String(lineBytes, StandardCharsets.UTF_8));
-				lineStart = i + 1;
-			}
+		var offsets = new int[count];
+		var line = 1;
 
-		if(lineStart != bytes.length)
-		{
-			var lineBytes = new byte[bytes.length - lineStart];
-			System.arraycopy(bytes, lineStart, lineBytes, 0, lineBytes.length);
-			lines.add(new String(lineBytes, StandardCharsets.UTF_8));
-		}
+		for(var i = 0; i != length; ++i)
+			if(codepoint(i) == '\n')
+				offsets[line++] = i + 1;
 
-		return new SourceFile(path, codepoints, linesByOffset, lines);
+		return offsets;
 	}
 
 	public Path path()
@@ -104,26 +97,52 @@ public class SourceFile
 		return path;
 	}
 
-	public int[] codepoints()
+	public String digest()
+	{
+		return digest;
+	}
+
+	public int length()
+	{
+		return length;
+	}
+
+	public int codepoint(int offset)
 	{
-		return codepoints;
+		return ascii != null ? ascii[offset] : codepoints[offset];
 	}
 
 	public String line(int index)
 	{
-		return lines.get(index);
+		var line = lines[index];
+
+		if(line == null)
+		{
+			var begin = lineOffsets[index];
+			var end = index + 1 == lineOffsets.length ? length : lineOffsets[index + 1] - 1;
+			line = slice(begin, end - begin);
+			lines[index] = line;
+		}
+
+		return line;
 	}
 
 	public SourceLocation resolve(int offset, int length)
 	{
-		var lineEntry = linesByOffset.floorEntry(offset);
-		var lineOffset = lineEntry.getKey();
-		var line = lineEntry.getValue();
-		return new SourceLocation(this, line.number, offset - lineOffset, length, offset);
+		var line = Arrays.binarySearch(lineOffsets, offset);
+
+		// not a line start, binarySearch returns -(insertion point) - 1
+		if(line < 0)
+			line = -line - 2;
+
+		return new SourceLocation(this, line, offset - lineOffsets[line], length, offset);
 	}
 
 	public String slice(int offset, int length)
 	{
+		if(ascii != null)
+			return new String(ascii, offset, length, StandardCharsets.US_ASCII);
+
 		return new String(codepoints, offset, length);
 	}
 }
@@ -14,6 +14,7 @@
 
 package io.katana.compiler.scanner;
 
+import io.katana.compiler.utils.Futures;
 import io.katana.compiler.utils.Maybe;
 
 import java.io.IOException;
@@ -22,6 +23,8 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class SourceManager
 {
@@ -32,12 +35,18 @@ public class SourceManager
 		this.files = files;
 	}
 
-	public static SourceManager loadFiles(Set<Path> paths) throws IOException
+	// paths are relative to the root, which is also how they appear in diagnostics
+	public static SourceManager loadFiles(Path root, Set<Path> paths, ExecutorService executor) throws IOException
 	{
-		var files = new TreeMap<Path, SourceFile>();
+		var futures = new TreeMap<Path, Future<SourceFile>>();
 
 		for(var path : paths)
-			files.put(path, SourceFile.load(path));
+			futures.put(path, executor.submit(() -> SourceFile.load(root, path)));
+
+		var files = new TreeMap<Path, SourceFile>();
+
+		for(var entry : futures.entrySet())
+			files.put(entry.getKey(), Futures.await(entry.getValue()));
 
 		return new SourceManager(files);
 	}
@@ -41,11 +41,6 @@ public class Token
 		this(category, type, null);
 	}
 
-	public Token withSourceRange(int offset, int length)
-	{
-		return new Token(offset, length, this.category, this.type, this.value);
-	}
-
 	@Override
 	public String toString()
 	{
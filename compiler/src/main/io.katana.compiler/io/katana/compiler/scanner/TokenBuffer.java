@@ -0,0 +1,86 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.scanner;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// tokens stored as parallel arrays, no objects are allocated per token apart from literal values
+public class TokenBuffer
+{
+	private static final TokenType[] TYPES = TokenType.values();
+	private static final TokenCategory[] CATEGORIES = TokenCategory.values();
+	private static final int INITIAL_CAPACITY = 256;
+
+	private int size = 0;
+	private int[] offsets = new int[INITIAL_CAPACITY];
+	private int[] lengths = new int[INITIAL_CAPACITY];
+	private byte[] types = new byte[INITIAL_CAPACITY];
+	private byte[] categories = new byte[INITIAL_CAPACITY];
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	public void add(int offset, int length, TokenCategory category, TokenType type, Object value)
+	{
+		if(size == offsets.length)
+			grow();
+
+		offsets[size] = offset;
+		lengths[size] = length;
+		types[size] = (byte)type.ordinal();
+		categories[size] = (byte)category.ordinal();
+		values[size] = value;
+		++size;
+	}
+
+	private void grow()
+	{
+		var capacity = 2 * offsets.length;
+		offsets = Arrays.copyOf(offsets, capacity);
+		lengths = Arrays.copyOf(lengths, capacity);
+		types = Arrays.copyOf(types, capacity);
+		categories = Arrays.copyOf(categories, capacity);
+		values = Arrays.copyOf(values, capacity);
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public int offset(int index)
+	{
+		return offsets[Objects.checkIndex(index, size)];
+	}
+
+	public int length(int index)
+	{
+		return lengths[Objects.checkIndex(index, size)];
+	}
+
+	public TokenType type(int index)
+	{
+		return TYPES[types[Objects.checkIndex(index, size)] & 0xFF];
+	}
+
+	public TokenCategory category(int index)
+	{
+		return CATEGORIES[categories[Objects.checkIndex(index, size)] & 0xFF];
+	}
+
+	public Object value(int index)
+	{
+		return values[Objects.checkIndex(index, size)];
+	}
+}
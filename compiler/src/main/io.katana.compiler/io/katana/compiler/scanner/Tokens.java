@@ -80,29 +80,4 @@ public class Tokens
 	public static final Token TYPE_UINT32  = new Token(TokenCategory.TYPE, TokenType.TYPE_UINT32);
 	public static final Token TYPE_UINT64  = new Token(TokenCategory.TYPE, TokenType.TYPE_UINT64);
 	public static final Token TYPE_VOID    = new Token(TokenCategory.TYPE, TokenType.TYPE_VOID);
-
-	public static Token identifier(String value)
-	{
-		return new Token(TokenCategory.IDENT, TokenType.IDENT, value);
-	}
-
-	public static Token label(String value)
-	{
-		return new Token(TokenCategory.LABEL, TokenType.LABEL, value);
-	}
-
-	public static Token numericLiteral(TokenType type, Object value)
-	{
-		return new Token(TokenCategory.LIT, type, value);
-	}
-
-	public static Token op(String value, TokenType type)
-	{
-		return new Token(TokenCategory.OP, type, value);
-	}
-
-	public static Token stringLiteral(String value)
-	{
-		return new Token(TokenCategory.LIT, TokenType.LIT_STRING, value);
-	}
 }
@@ -14,10 +14,15 @@
 
 package io.katana.compiler.sema;
 
+import io.katana.compiler.ExportKind;
 import io.katana.compiler.ast.AstPath;
 import io.katana.compiler.sema.decl.SemaDecl;
+import io.katana.compiler.sema.decl.SemaDeclImportedOverloadSet;
+import io.katana.compiler.sema.decl.SemaDeclOperator;
+import io.katana.compiler.sema.decl.SemaDeclOverloadSet;
 import io.katana.compiler.utils.Maybe;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -28,6 +33,7 @@ public class SemaModule implements SemaSymbol
 	private SemaModule parent;
 	private Map<String, SemaModule> childrenByName = new TreeMap<>();
 	private Map<String, SemaDecl> declsByName = new TreeMap<>();
+	private volatile Map<String, SemaDecl> exports = null;
 
 	public SemaModule(String name, AstPath path, SemaModule parent)
 	{
@@ -90,6 +96,28 @@ public class SemaModule implements SemaSymbol
 
 	public Map<String, SemaDecl> decls() { return declsByName; }
 
+	// what importing files see, shared between all of them;
+	// built on first use, which must come after all decls have been declared.
+	// racing builds are harmless, they produce equivalent views
+	public Map<String, SemaDecl> exports()
+	{
+		var exports = this.exports;
+
+		if(exports != null)
+			return exports;
+
+		var result = new HashMap<String, SemaDecl>();
+
+		for(var decl : declsByName.values())
+			if(decl instanceof SemaDeclOverloadSet)
+				result.put(decl.name(), new SemaDeclImportedOverloadSet((SemaDeclOverloadSet)decl));
+			else if(decl.exportKind != ExportKind.HIDDEN && !(decl instanceof SemaDeclOperator))
+				result.put(decl.name(), decl);
+
+		this.exports = result;
+		return result;
+	}
+
 	public AstPath path()
 	{
 		return path;
@@ -74,8 +74,7 @@ public abstract class SemaDeclFunction extends SemaDecl
 		                                 .map(p -> p.type)
 		                                 .collect(Collectors.toList());
 
-		var params = new SemaTypeFunction.ParamList(fixedParamTypes, isVariadic);
-		return new SemaTypeFunction(params, returnType);
+		return SemaTypeFunction.of(fixedParamTypes, isVariadic, returnType);
 	}
 
 	public boolean defineParam(String name, SemaType type)
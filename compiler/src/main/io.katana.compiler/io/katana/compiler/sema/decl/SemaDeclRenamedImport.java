@@ -17,14 +17,10 @@ package io.katana.compiler.sema.decl;
 import io.katana.compiler.ExportKind;
 import io.katana.compiler.sema.SemaModule;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class SemaDeclRenamedImport extends SemaDecl
 {
 	public SemaModule module;
 	public String rename;
-	public Map<String, SemaDecl> decls = new HashMap<>();
 
 	public SemaDeclRenamedImport(SemaModule module, String rename)
 	{
@@ -14,13 +14,19 @@
 
 package io.katana.compiler.sema.scope;
 
+import io.katana.compiler.op.Kind;
+import io.katana.compiler.op.OperatorTrie;
+import io.katana.compiler.sema.SemaModule;
 import io.katana.compiler.sema.SemaSymbol;
+import io.katana.compiler.sema.decl.SemaDeclOperator;
 
 import java.util.*;
 
 public class SemaScopeFile implements SemaScope
 {
 	private Map<String, List<SemaSymbol>> symbols = new HashMap<>();
+	private Map<Kind, OperatorTrie> operators = new EnumMap<>(Kind.class);
+	private List<SemaModule> imports = new ArrayList<>();
 
 	public void defineSymbol(SemaSymbol symbol)
 	{
@@ -30,12 +36,49 @@ public class SemaScopeFile implements SemaScope
 			symbols.put(name, new ArrayList<>());
 
 		symbols.get(name).add(symbol);
+
+		if(symbol instanceof SemaDeclOperator)
+		{
+			var decl = (SemaDeclOperator)symbol;
+			operators.computeIfAbsent(decl.operator.kind, k -> new OperatorTrie()).add(decl);
+		}
+	}
+
+	public void importModule(SemaModule module)
+	{
+		// build the shared view up front rather than during lookups
+		module.exports();
+		imports.add(module);
+	}
+
+	public OperatorTrie operators(Kind kind)
+	{
+		return operators.getOrDefault(kind, OperatorTrie.EMPTY);
 	}
 
 	@Override
 	public List<SemaSymbol> find(String name)
 	{
-		var symbolList = symbols.get(name);
-		return symbolList == null ? Collections.emptyList() : symbolList;
+		var result = symbols.getOrDefault(name, Collections.emptyList());
+
+		for(var module : imports)
+		{
+			var decl = module.exports().get(name);
+
+			if(decl == null)
+				continue;
+
+			// usually there is only a single match, so only copy when merging
+			if(result.isEmpty())
+				result = Collections.singletonList(decl);
+			else
+			{
+				var merged = new ArrayList<>(result);
+				merged.add(decl);
+				result = merged;
+			}
+		}
+
+		return result;
 	}
 }
@@ -14,14 +14,24 @@
 
 package io.katana.compiler.sema.type;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SemaTypeArray extends SemaType
 {
-	public long length;
-	public SemaType elementType;
+	private static final ConcurrentHashMap<SemaType, ConcurrentHashMap<Long, SemaTypeArray>> INSTANCES = SemaTypeTables.register(new ConcurrentHashMap<>());
+
+	public final long length;
+	public final SemaType elementType;
 
-	public SemaTypeArray(long length, SemaType elementType)
+	private SemaTypeArray(long length, SemaType elementType)
 	{
 		this.length = length;
 		this.elementType = elementType;
 	}
+
+	public static SemaTypeArray of(long length, SemaType elementType)
+	{
+		return INSTANCES.computeIfAbsent(elementType, ign -> new ConcurrentHashMap<>())
+		                .computeIfAbsent(length, ign -> new SemaTypeArray(length, elementType));
+	}
 }
@@ -14,12 +14,21 @@
 
 package io.katana.compiler.sema.type;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SemaTypeConst extends SemaType
 {
-	public SemaType nestedType;
+	private static final ConcurrentHashMap<SemaType, SemaTypeConst> INSTANCES = SemaTypeTables.register(new ConcurrentHashMap<>());
+
+	public final SemaType nestedType;
 
-	public SemaTypeConst(SemaType nestedType)
+	private SemaTypeConst(SemaType nestedType)
 	{
 		this.nestedType = nestedType;
 	}
+
+	public static SemaTypeConst of(SemaType nestedType)
+	{
+		return INSTANCES.computeIfAbsent(nestedType, SemaTypeConst::new);
+	}
 }
@@ -15,27 +15,38 @@
 package io.katana.compiler.sema.type;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SemaTypeFunction extends SemaType
 {
 	public static class ParamList
 	{
-		public List<SemaType> fixedParamTypes;
-		public boolean isVariadic;
+		public final List<SemaType> fixedParamTypes;
+		public final boolean isVariadic;
 
-		public ParamList(List<SemaType> fixedParamTypes, boolean isVariadic)
+		private ParamList(List<SemaType> fixedParamTypes, boolean isVariadic)
 		{
 			this.fixedParamTypes = fixedParamTypes;
 			this.isVariadic = isVariadic;
 		}
 	}
 
-	public ParamList params;
-	public SemaType returnType;
+	// component types are canonical, so list equality amounts to element identity
+	private static final ConcurrentHashMap<List<Object>, SemaTypeFunction> INSTANCES = SemaTypeTables.register(new ConcurrentHashMap<>());
 
-	public SemaTypeFunction(ParamList params, SemaType returnType)
+	public final ParamList params;
+	public final SemaType returnType;
+
+	private SemaTypeFunction(ParamList params, SemaType returnType)
 	{
 		this.params = params;
 		this.returnType = returnType;
 	}
+
+	public static SemaTypeFunction of(List<SemaType> fixedParamTypes, boolean isVariadic, SemaType returnType)
+	{
+		var paramTypes = List.copyOf(fixedParamTypes);
+		var key = List.of(paramTypes, isVariadic, returnType);
+		return INSTANCES.computeIfAbsent(key, ign -> new SemaTypeFunction(new ParamList(paramTypes, isVariadic), returnType));
+	}
 }
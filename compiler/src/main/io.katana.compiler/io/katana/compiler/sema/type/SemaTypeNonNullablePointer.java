@@ -14,12 +14,21 @@
 
 package io.katana.compiler.sema.type;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SemaTypeNonNullablePointer extends SemaType
 {
-	public SemaType pointeeType;
+	private static final ConcurrentHashMap<SemaType, SemaTypeNonNullablePointer> INSTANCES = SemaTypeTables.register(new ConcurrentHashMap<>());
+
+	public final SemaType pointeeType;
 
-	public SemaTypeNonNullablePointer(SemaType pointeeType)
+	private SemaTypeNonNullablePointer(SemaType pointeeType)
 	{
 		this.pointeeType = pointeeType;
 	}
+
+	public static SemaTypeNonNullablePointer of(SemaType pointeeType)
+	{
+		return INSTANCES.computeIfAbsent(pointeeType, SemaTypeNonNullablePointer::new);
+	}
 }
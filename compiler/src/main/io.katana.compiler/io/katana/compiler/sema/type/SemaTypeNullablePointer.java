@@ -14,12 +14,21 @@
 
 package io.katana.compiler.sema.type;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SemaTypeNullablePointer extends SemaType
 {
-	public SemaType pointeeType;
+	private static final ConcurrentHashMap<SemaType, SemaTypeNullablePointer> INSTANCES = SemaTypeTables.register(new ConcurrentHashMap<>());
+
+	public final SemaType pointeeType;
 
-	public SemaTypeNullablePointer(SemaType pointeeType)
+	private SemaTypeNullablePointer(SemaType pointeeType)
 	{
 		this.pointeeType = pointeeType;
 	}
+
+	public static SemaTypeNullablePointer of(SemaType pointeeType)
+	{
+		return INSTANCES.computeIfAbsent(pointeeType, SemaTypeNullablePointer::new);
+	}
 }
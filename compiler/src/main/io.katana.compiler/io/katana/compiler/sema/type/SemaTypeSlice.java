@@ -14,12 +14,21 @@
 
 package io.katana.compiler.sema.type;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SemaTypeSlice extends SemaType
 {
-	public SemaType elementType;
+	private static final ConcurrentHashMap<SemaType, SemaTypeSlice> INSTANCES = SemaTypeTables.register(new ConcurrentHashMap<>());
+
+	public final SemaType elementType;
 
-	public SemaTypeSlice(SemaType elementType)
+	private SemaTypeSlice(SemaType elementType)
 	{
 		this.elementType = elementType;
 	}
+
+	public static SemaTypeSlice of(SemaType elementType)
+	{
+		return INSTANCES.computeIfAbsent(elementType, SemaTypeSlice::new);
+	}
 }
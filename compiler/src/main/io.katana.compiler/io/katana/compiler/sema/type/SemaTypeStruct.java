@@ -16,12 +16,21 @@ package io.katana.compiler.sema.type;
 
 import io.katana.compiler.sema.decl.SemaDeclStruct;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SemaTypeStruct extends SemaType
 {
-	public SemaDeclStruct decl;
+	private static final ConcurrentHashMap<SemaDeclStruct, SemaTypeStruct> INSTANCES = SemaTypeTables.register(new ConcurrentHashMap<>());
+
+	public final SemaDeclStruct decl;
 
-	public SemaTypeStruct(SemaDeclStruct decl)
+	private SemaTypeStruct(SemaDeclStruct decl)
 	{
 		this.decl = decl;
 	}
+
+	public static SemaTypeStruct of(SemaDeclStruct decl)
+	{
+		return INSTANCES.computeIfAbsent(decl, SemaTypeStruct::new);
+	}
 }
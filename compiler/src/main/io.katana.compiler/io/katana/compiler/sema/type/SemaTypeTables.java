@@ -0,0 +1,38 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.sema.type;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// the intern tables of derived types, keyed by the declarations and platform contexts of a build.
+// whoever runs several builds in one vm clears them in between, so no build holds on to another's types
+public class SemaTypeTables
+{
+	private static final List<ConcurrentHashMap<?, ?>> TABLES = new CopyOnWriteArrayList<>();
+
+	static <K, V> ConcurrentHashMap<K, V> register(ConcurrentHashMap<K, V> table)
+	{
+		TABLES.add(table);
+		return table;
+	}
+
+	public static void clear()
+	{
+		for(var table : TABLES)
+			table.clear();
+	}
+}
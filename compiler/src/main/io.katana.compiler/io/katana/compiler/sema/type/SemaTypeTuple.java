@@ -15,17 +15,39 @@
 package io.katana.compiler.sema.type;
 
 import io.katana.compiler.analysis.StructLayout;
+import io.katana.compiler.analysis.StructLayoutBuilder;
+import io.katana.compiler.backend.PlatformContext;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SemaTypeTuple extends SemaType
 {
-	public List<SemaType> fieldTypes;
-	public StructLayout layout;
+	// the layout depends on the platform, hence one table per context
+	private static final ConcurrentHashMap<PlatformContext, ConcurrentHashMap<List<SemaType>, SemaTypeTuple>> INSTANCES = SemaTypeTables.register(new ConcurrentHashMap<>());
 
-	public SemaTypeTuple(List<SemaType> fieldTypes, StructLayout layout)
+	public final List<SemaType> fieldTypes;
+	public final StructLayout layout;
+
+	private SemaTypeTuple(List<SemaType> fieldTypes, StructLayout layout)
 	{
 		this.fieldTypes = fieldTypes;
 		this.layout = layout;
 	}
+
+	private static SemaTypeTuple create(List<SemaType> fieldTypes, PlatformContext context)
+	{
+		var builder = new StructLayoutBuilder(context);
+
+		for(var type : fieldTypes)
+			builder.appendField(type);
+
+		return new SemaTypeTuple(fieldTypes, builder.build());
+	}
+
+	public static SemaTypeTuple of(List<SemaType> fieldTypes, PlatformContext context)
+	{
+		return INSTANCES.computeIfAbsent(context, ign -> new ConcurrentHashMap<>())
+		                .computeIfAbsent(List.copyOf(fieldTypes), types -> create(types, context));
+	}
 }
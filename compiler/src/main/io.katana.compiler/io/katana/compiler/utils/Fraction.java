@@ -14,10 +14,11 @@
 
 package io.katana.compiler.utils;
 
+import java.io.Serializable;
 import java.math.BigInteger;
 import java.util.Objects;
 
-public class Fraction implements Comparable<Fraction>
+public class Fraction implements Comparable<Fraction>, Serializable
 {
 	// ((1 << 24) - 1) * (1 << 104) == (2^24 - 1) * 2^104
 	public static final Fraction FLOAT_MAX = of(BigInteger.ONE.shiftLeft(24).subtract(BigInteger.ONE).multiply(BigInteger.ONE.shiftLeft(104)), BigInteger.ONE);
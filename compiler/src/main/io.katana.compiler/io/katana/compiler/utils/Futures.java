@@ -0,0 +1,81 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.utils;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+public class Futures
+{
+	public static <T> T join(Future<T> future)
+	{
+		try
+		{
+			return future.get();
+		}
+		catch(ExecutionException ex)
+		{
+			Rethrow.of(ex.getCause());
+		}
+		catch(InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			Rethrow.of(ex);
+		}
+
+		throw new AssertionError("unreachable");
+	}
+
+	public static <T> T await(Future<T> future) throws IOException
+	{
+		try
+		{
+			return future.get();
+		}
+		catch(ExecutionException ex)
+		{
+			var cause = ex.getCause();
+
+			if(cause instanceof IOException)
+				throw (IOException)cause;
+
+			Rethrow.of(cause);
+		}
+		catch(InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			Rethrow.of(ex);
+		}
+
+		throw new AssertionError("unreachable");
+	}
+
+	// waits for a future regardless of its outcome, failures are reported by whoever joins it
+	public static void awaitQuietly(Future<?> future)
+	{
+		try
+		{
+			future.get();
+		}
+		catch(ExecutionException | CancellationException ex)
+		{}
+		catch(InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class Hashing
+{
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	public static String sha256(byte[] bytes)
+	{
+		try
+		{
+			var digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+			var result = new char[digest.length * 2];
+
+			for(var i = 0; i != digest.length; ++i)
+			{
+				result[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+				result[2 * i + 1] = HEX_DIGITS[digest[i] & 0xF];
+			}
+
+			return new String(result);
+		}
+		catch(NoSuchAlgorithmException ex)
+		{
+			// every java platform is required to support sha-256
+			throw new AssertionError(ex);
+		}
+	}
+
+	public static String sha256(String string)
+	{
+		return sha256(string.getBytes(StandardCharsets.UTF_8));
+	}
+}
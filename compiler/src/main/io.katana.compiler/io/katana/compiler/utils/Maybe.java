@@ -14,10 +14,11 @@
 
 package io.katana.compiler.utils;
 
+import java.io.Serializable;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-public class Maybe<T>
+public class Maybe<T> implements Serializable
 {
 	private static final Maybe NONE = new Maybe<>(null);
 
@@ -0,0 +1,42 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.visitor;
+
+// support code for the dispatchers generated by io.katana.processor.VisitorProcessor
+public class DispatchTables
+{
+	// maps the runtime class of the first argument to the first case that may accept it,
+	// the generated switch falls through to later cases if the remaining arguments do not match
+	public static ClassValue<Integer> firstCases(Class<?>... firstParamClasses)
+	{
+		return new ClassValue<>()
+		{
+			@Override
+			protected Integer computeValue(Class<?> clazz)
+			{
+				for(var i = 0; i != firstParamClasses.length; ++i)
+					if(firstParamClasses[i].isAssignableFrom(clazz))
+						return i;
+
+				return firstParamClasses.length;
+			}
+		};
+	}
+
+	public static int firstCase(ClassValue<Integer> cases, Object arg)
+	{
+		return arg == null ? 0 : cases.get(arg.getClass());
+	}
+}
@@ -14,18 +14,62 @@
 
 package io.katana.compiler.visitor;
 
-import java.lang.reflect.Method;
-import java.util.IdentityHashMap;
-
 public abstract class IVisitor<R>
 {
-	private static final IdentityHashMap<Class<?>, Method[]> CLASS_TO_VISITS = new IdentityHashMap<>();
+	private static final ClassValue<VisitDispatcher> DISPATCHERS = new ClassValue<>()
+	{
+		@Override
+		protected VisitDispatcher computeValue(Class<?> clazz)
+		{
+			return createDispatcher(clazz);
+		}
+	};
+
+	private final VisitDispatcher dispatcher = DISPATCHERS.get(getClass());
+
+	private static VisitDispatcher createDispatcher(Class<?> clazz)
+	{
+		// prefer the dispatcher generated at build time, fall back to method handles if there is none
+		try
+		{
+			var generated = Class.forName(clazz.getName() + "Dispatcher", true, clazz.getClassLoader());
 
-	private final Method[] visits = CLASS_TO_VISITS.computeIfAbsent(getClass(), ReflectionUtils::findVisitMethods);
+			if(VisitDispatcher.class.isAssignableFrom(generated))
+				return (VisitDispatcher)generated.getConstructor().newInstance();
+		}
+		catch(ClassNotFoundException ex)
+		{
+			// not generated
+		}
+		catch(ReflectiveOperationException ex)
+		{
+			throw new RuntimeException(ex);
+		}
+
+		return new MethodHandleDispatcher(clazz);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected R invokeSelf(Object arg)
+	{
+		return (R)dispatcher.invoke(this, arg);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected R invokeSelf(Object arg1, Object arg2)
+	{
+		return (R)dispatcher.invoke(this, arg1, arg2);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected R invokeSelf(Object arg1, Object arg2, Object arg3)
+	{
+		return (R)dispatcher.invoke(this, arg1, arg2, arg3);
+	}
 
 	@SuppressWarnings("unchecked")
 	protected R invokeSelf(Object... args)
 	{
-		return (R)ReflectionUtils.resolveAndInvoke(visits, this, args);
+		return (R)dispatcher.invoke(this, args);
 	}
 }
@@ -0,0 +1,180 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.visitor;
+
+import io.katana.compiler.utils.Rethrow;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+class MethodHandleDispatcher implements VisitDispatcher
+{
+	private static class Target
+	{
+		public final int arity;
+		public final Class<?> secondArgClass;
+		public final Class<?> thirdArgClass;
+		public final MethodHandle handle;
+
+		public Target(int arity, Class<?> secondArgClass, Class<?> thirdArgClass, MethodHandle handle)
+		{
+			this.arity = arity;
+			this.secondArgClass = secondArgClass;
+			this.thirdArgClass = thirdArgClass;
+			this.handle = handle;
+		}
+	}
+
+	// targets are keyed by the runtime class of the first argument, the remaining argument classes
+	// are few in practice and are matched linearly; the array is replaced, never modified in place
+	private static class TargetList
+	{
+		public volatile Target[] targets = new Target[0];
+	}
+
+	private final Method[] visits;
+	private final TargetList nullFirstArgTargets = new TargetList();
+
+	private final ClassValue<TargetList> targetsByFirstArgClass = new ClassValue<>()
+	{
+		@Override
+		protected TargetList computeValue(Class<?> clazz)
+		{
+			return new TargetList();
+		}
+	};
+
+	public MethodHandleDispatcher(Class<?> visitorClass)
+	{
+		visits = ReflectionUtils.findVisitMethods(visitorClass);
+	}
+
+	private static Class<?> classOf(Object arg)
+	{
+		return arg == null ? null : arg.getClass();
+	}
+
+	private MethodHandle find(IVisitor self, int arity, Object arg1, Object arg2, Object arg3)
+	{
+		var list = arg1 == null ? nullFirstArgTargets : targetsByFirstArgClass.get(arg1.getClass());
+		var secondArgClass = classOf(arg2);
+		var thirdArgClass = classOf(arg3);
+
+		for(var target : list.targets)
+			if(target.arity == arity && target.secondArgClass == secondArgClass && target.thirdArgClass == thirdArgClass)
+				return target.handle;
+
+		return resolve(list, self, arity, arg1, arg2, arg3);
+	}
+
+	private MethodHandle resolve(TargetList list, IVisitor self, int arity, Object arg1, Object arg2, Object arg3)
+	{
+		var args = Arrays.copyOf(new Object[]{arg1, arg2, arg3}, arity);
+		var method = ReflectionUtils.resolve(visits, args);
+
+		if(method == null)
+			ReflectionUtils.noMatchingMethodFound(self, args);
+
+		MethodHandle handle;
+
+		try
+		{
+			handle = MethodHandles.lookup()
+			                      .unreflect(method)
+			                      .asType(MethodType.genericMethodType(arity + 1));
+		}
+		catch(IllegalAccessException ex)
+		{
+			throw new RuntimeException(ex);
+		}
+
+		synchronized(list)
+		{
+			var targets = list.targets;
+			var newTargets = new Target[targets.length + 1];
+			System.arraycopy(targets, 0, newTargets, 0, targets.length);
+			newTargets[targets.length] = new Target(arity, classOf(arg2), classOf(arg3), handle);
+			list.targets = newTargets;
+		}
+
+		return handle;
+	}
+
+	@Override
+	public Object invoke(IVisitor self, Object arg)
+	{
+		var handle = find(self, 1, arg, null, null);
+
+		try
+		{
+			return (Object)handle.invokeExact((Object)self, arg);
+		}
+		catch(Throwable ex)
+		{
+			Rethrow.of(ex);
+		}
+
+		throw new AssertionError("unreachable");
+	}
+
+	@Override
+	public Object invoke(IVisitor self, Object arg1, Object arg2)
+	{
+		var handle = find(self, 2, arg1, arg2, null);
+
+		try
+		{
+			return (Object)handle.invokeExact((Object)self, arg1, arg2);
+		}
+		catch(Throwable ex)
+		{
+			Rethrow.of(ex);
+		}
+
+		throw new AssertionError("unreachable");
+	}
+
+	@Override
+	public Object invoke(IVisitor self, Object arg1, Object arg2, Object arg3)
+	{
+		var handle = find(self, 3, arg1, arg2, arg3);
+
+		try
+		{
+			return (Object)handle.invokeExact((Object)self, arg1, arg2, arg3);
+		}
+		catch(Throwable ex)
+		{
+			Rethrow.of(ex);
+		}
+
+		throw new AssertionError("unreachable");
+	}
+
+	@Override
+	public Object invoke(IVisitor self, Object... args)
+	{
+		switch(args.length)
+		{
+		case 1: return invoke(self, args[0]);
+		case 2: return invoke(self, args[0], args[1]);
+		case 3: return invoke(self, args[0], args[1], args[2]);
+		default: return ReflectionUtils.resolveAndInvoke(visits, self, args);
+		}
+	}
+}
@@ -32,7 +32,7 @@ public class ReflectionUtils
 		             .toArray(Method[]::new);
 	}
 
-	private static Method resolve(Method[] methods, Object... args)
+	static Method resolve(Method[] methods, Object... args)
 	{
 		for(var method : methods)
 		{
@@ -51,7 +51,7 @@ public class ReflectionUtils
 		return null;
 	}
 
-	private static void noMatchingMethodFound(IVisitor self, Object... args)
+	public static void noMatchingMethodFound(IVisitor self, Object... args)
 	{
 		var argsDesc = Arrays.stream(args)
 		                     .map(a -> a == null ? "null" : '\'' + a.getClass().getName() + '\'')
@@ -0,0 +1,57 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.testing.backend.tests;
+
+import io.katana.compiler.backend.llvm.codegen.StringPool;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StringPoolTests
+{
+	@Test
+	public void namesStringsByValue()
+	{
+		var pool = new StringPool();
+		var name = pool.get("hello").toString();
+		assertTrue(name, name.matches("@strpool\\$[0-9a-f]{32}"));
+		assertEquals(name, pool.get("hello").toString());
+		assertNotEquals(name, pool.get("hello ").toString());
+	}
+
+	@Test
+	public void namesDoNotDependOnOtherStrings()
+	{
+		var a = new StringPool();
+		var b = new StringPool();
+		b.addAll(List.of("x", "y", "z"));
+
+		assertEquals(a.get("y").toString(), b.get("y").toString());
+		assertEquals(a.get("").toString(), b.get("").toString());
+	}
+
+	@Test
+	public void listsValuesInStableOrder()
+	{
+		var pool = new StringPool();
+		pool.get("c");
+		pool.addAll(List.of("a", "c", "b"));
+		assertEquals(List.of("a", "b", "c"), pool.values());
+	}
+}
@@ -0,0 +1,80 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.testing.op.tests;
+
+import io.katana.compiler.ExportKind;
+import io.katana.compiler.op.Operator;
+import io.katana.compiler.op.OperatorTrie;
+import io.katana.compiler.sema.decl.SemaDeclOperator;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OperatorTrieTests
+{
+	private static OperatorTrie trie(String... symbols)
+	{
+		var trie = new OperatorTrie();
+
+		for(var symbol : symbols)
+			trie.add(new SemaDeclOperator(null, ExportKind.HIDDEN, Operator.prefix(symbol)));
+
+		return trie;
+	}
+
+	@Test
+	public void matchesLongestOperator()
+	{
+		var trie = trie("+", "++", "-");
+		assertEquals(2, trie.longestMatch("++-", 0));
+		assertEquals(1, trie.longestMatch("+-+", 0));
+		assertEquals(3, trie.longestMatch("++-", 2));
+	}
+
+	@Test
+	public void skipsPrefixesThatAreNoOperators()
+	{
+		var trie = trie("+", "+++");
+		assertEquals(1, trie.longestMatch("++", 0));
+		assertEquals(3, trie.longestMatch("++++", 0));
+		assertEquals(4, trie.longestMatch("++++", 1));
+	}
+
+	@Test
+	public void returnsBeginWithoutMatch()
+	{
+		var trie = trie("++");
+		assertEquals(0, trie.longestMatch("+", 0));
+		assertEquals(1, trie.longestMatch("*+", 1));
+		assertEquals(0, OperatorTrie.EMPTY.longestMatch("+", 0));
+	}
+
+	@Test
+	public void findsDeclsByExactSymbol()
+	{
+		var trie = new OperatorTrie();
+		var plus = new SemaDeclOperator(null, ExportKind.HIDDEN, Operator.prefix("+"));
+		var plusPlus = new SemaDeclOperator(null, ExportKind.HIDDEN, Operator.prefix("++"));
+		trie.add(plus);
+		trie.add(plusPlus);
+
+		assertEquals(List.of(plus), trie.find("+"));
+		assertEquals(List.of(plusPlus), trie.find("-++", 1, 3));
+		assertEquals(List.of(), trie.find("+++"));
+		assertEquals(List.of(), trie.find("-"));
+	}
+}
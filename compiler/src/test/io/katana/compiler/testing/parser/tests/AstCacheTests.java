@@ -0,0 +1,75 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.testing.parser.tests;
+
+import io.katana.compiler.ast.AstPath;
+import io.katana.compiler.diag.DiagnosticsManager;
+import io.katana.compiler.parser.AstCache;
+import io.katana.compiler.parser.FileParser;
+import io.katana.compiler.scanner.SourceFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AstCacheTests
+{
+	private static final String VERSION = "1.0";
+	private static final String SOURCE = "module a.b;\n\nfn f(int x) => int\n{\n\treturn x + 1;\n}\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static SourceFile file(String source)
+	{
+		return SourceFile.fromBytes(Paths.get("source", "a.k"), source.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void loadsStoredAst() throws IOException
+	{
+		var cache = new AstCache(folder.getRoot().toPath(), VERSION);
+		var file = file(SOURCE);
+		var diag = new DiagnosticsManager(true);
+		cache.store(file, FileParser.parse(file, diag));
+		assertEquals(0, diag.amount());
+
+		var ast = cache.load(file(SOURCE));
+		assertTrue(ast.isSome());
+
+		var module = ast.get().modules.get(new AstPath("a", "b"));
+		assertEquals(new AstPath("a", "b"), module.path);
+		assertTrue(module.decls.containsKey("f"));
+		assertEquals(1, ast.get().lateParseExprs.infixLists.size());
+	}
+
+	@Test
+	public void missesChangedFilesAndOtherVersions() throws IOException
+	{
+		var cache = new AstCache(folder.getRoot().toPath(), VERSION);
+		var file = file(SOURCE);
+		cache.store(file, FileParser.parse(file, new DiagnosticsManager(true)));
+
+		assertTrue(cache.load(file(SOURCE + "\n")).isNone());
+		assertTrue(cache.load(SourceFile.fromBytes(Paths.get("b.k"), new byte[0])).isNone());
+		assertTrue(new AstCache(folder.getRoot().toPath(), "2.0").load(file).isNone());
+	}
+}
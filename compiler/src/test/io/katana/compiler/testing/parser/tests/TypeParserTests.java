@@ -0,0 +1,109 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.testing.parser.tests;
+
+import io.katana.compiler.diag.DiagnosticsManager;
+import io.katana.compiler.parser.ParseContext;
+import io.katana.compiler.parser.TypeParser;
+import io.katana.compiler.scanner.Scanner;
+import io.katana.compiler.scanner.SourceFile;
+import io.katana.compiler.scanner.TokenType;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+
+public class TypeParserTests
+{
+	private static ParseContext context(String source)
+	{
+		var file = SourceFile.fromBytes(Paths.get(""), source.getBytes(StandardCharsets.UTF_8));
+		var diag = new DiagnosticsManager(true);
+		var tokens = Scanner.tokenize(file, diag);
+		assertEquals("unexpected scanner diagnostics", 0, diag.amount());
+		return new ParseContext(file, tokens, diag);
+	}
+
+	// lookahead must stop exactly where parsing the type stops
+	private static void expectType(String type, int tokens)
+	{
+		var ctx = context(type + " ;");
+		assertEquals("wrong lookahead", tokens, TypeParser.lookahead(ctx, 0));
+
+		TypeParser.parse(ctx);
+		assertEquals("parse stopped elsewhere", TokenType.PUNCT_SCOLON, ctx.tokenType());
+		assertEquals("unexpected parser diagnostics", 0, ctx.diagnostics().amount());
+	}
+
+	private static void expectNoType(String source)
+	{
+		assertEquals(-1, TypeParser.lookahead(context(source), 0));
+	}
+
+	@Test
+	public void looksAheadSimpleTypes()
+	{
+		expectType("int", 1);
+		expectType("Point", 1);
+		expectType("const byte", 2);
+		expectType("typeof(a + (b))", 8);
+	}
+
+	@Test
+	public void looksAheadPointerTypes()
+	{
+		expectType("!int", 2);
+		expectType("?!const byte", 3);
+	}
+
+	@Test
+	public void looksAheadArraysAndSlices()
+	{
+		expectType("[]int", 3);
+		expectType("[4]int", 4);
+		expectType("[2][]const byte", 7);
+	}
+
+	@Test
+	public void looksAheadTuples()
+	{
+		expectType("{}", 2);
+		expectType("{int}", 3);
+		expectType("{int, []byte, {}}", 10);
+	}
+
+	@Test
+	public void looksAheadFunctionTypes()
+	{
+		expectType("fn()", 3);
+		expectType("fn(int, ...) => int", 8);
+		expectType("fn(fn() => int) => []byte", 12);
+	}
+
+	@Test
+	public void rejectsIncompleteTypes()
+	{
+		expectNoType("");
+		expectNoType("42");
+		expectNoType("(int)");
+		expectNoType("[4 int");
+		expectNoType("{int, byte");
+		expectNoType("fn(int");
+		expectNoType("fn() =>");
+		expectNoType("typeof(a");
+	}
+}
@@ -0,0 +1,142 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.testing.project.tests;
+
+import io.katana.compiler.project.BuildState;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BuildStateTests
+{
+	private static final Path STATE = Paths.get("build.state");
+	private static final Path SOURCE = Paths.get("a.c");
+	private static final Path HEADER = Paths.get("a.h");
+	private static final Path OBJECT = Paths.get("a.o");
+	private static final List<String> COMMAND = List.of("clang", "-c", "a.c", "-o", "a.o");
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path root;
+
+	@Before
+	public void createFiles() throws IOException
+	{
+		root = folder.getRoot().toPath();
+		write(SOURCE, "int a;");
+		write(HEADER, "int b;");
+		write(OBJECT, "");
+	}
+
+	private void write(Path path, String contents) throws IOException
+	{
+		Files.writeString(root.resolve(path), contents);
+	}
+
+	private BuildState recorded()
+	{
+		var state = BuildState.load(root, STATE);
+		state.record("a.o", COMMAND, List.of(SOURCE, HEADER), List.of(OBJECT));
+		return state;
+	}
+
+	@Test
+	public void knowsNothingInitially()
+	{
+		assertFalse(BuildState.load(root, STATE).isUpToDate("a.o", COMMAND));
+	}
+
+	@Test
+	public void detectsUnchangedSteps()
+	{
+		var state = recorded();
+		assertTrue(state.isUpToDate("a.o", COMMAND));
+		assertEquals(List.of(OBJECT), state.outputs("a.o"));
+	}
+
+	@Test
+	public void detectsChangedCommands()
+	{
+		var state = recorded();
+		assertFalse(state.isUpToDate("a.o", List.of("clang", "-O2", "-c", "a.c", "-o", "a.o")));
+	}
+
+	// the frontend lists its sources in the command, so that a new source file is noticed
+	@Test
+	public void detectsFilesAddedToStep() throws IOException
+	{
+		write(Paths.get("a.k"), "module a;");
+		write(Paths.get("b.k"), "module b;");
+
+		var state = BuildState.load(root, STATE);
+		state.record("frontend", List.of("katana-frontend", "a.k"), List.of(Paths.get("a.k")), List.of(OBJECT));
+		assertTrue(state.isUpToDate("frontend", List.of("katana-frontend", "a.k")));
+		assertFalse(state.isUpToDate("frontend", List.of("katana-frontend", "a.k", "b.k")));
+	}
+
+	@Test
+	public void detectsChangedInputs() throws IOException
+	{
+		var state = recorded();
+		write(HEADER, "int b, c;");
+		assertFalse(state.isUpToDate("a.o", COMMAND));
+	}
+
+	@Test
+	public void detectsDeletedInputs() throws IOException
+	{
+		var state = recorded();
+		Files.delete(root.resolve(HEADER));
+		assertFalse(state.isUpToDate("a.o", COMMAND));
+	}
+
+	@Test
+	public void detectsDeletedOutputs() throws IOException
+	{
+		var state = recorded();
+		Files.delete(root.resolve(OBJECT));
+		assertFalse(state.isUpToDate("a.o", COMMAND));
+	}
+
+	@Test
+	public void forgetsInvalidatedSteps()
+	{
+		var state = recorded();
+		state.invalidate("a.o");
+		assertFalse(state.isUpToDate("a.o", COMMAND));
+	}
+
+	@Test
+	public void keepsRecordsAcrossBuilds() throws IOException
+	{
+		recorded().store(STATE);
+		assertTrue(BuildState.load(root, STATE).isUpToDate("a.o", COMMAND));
+
+		write(SOURCE, "int a = 1;");
+		assertFalse(BuildState.load(root, STATE).isUpToDate("a.o", COMMAND));
+	}
+}
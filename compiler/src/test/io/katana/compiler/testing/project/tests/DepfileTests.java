@@ -0,0 +1,60 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.testing.project.tests;
+
+import io.katana.compiler.project.Depfile;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class DepfileTests
+{
+	private static void expectPaths(String text, String... paths)
+	{
+		var expected = List.of(paths).stream().map(Paths::get).toArray(Path[]::new);
+		assertEquals(List.of(expected), Depfile.parse(text));
+	}
+
+	@Test
+	public void parsesSingleRule()
+	{
+		expectPaths("build/a.o: src/a.c inc/a.h\n", "src/a.c", "inc/a.h");
+		expectPaths("build/a.o : src/a.c", "src/a.c");
+		expectPaths("");
+	}
+
+	@Test
+	public void joinsContinuedLines()
+	{
+		expectPaths("a.o: a.c \\\n  a.h \\\r\n  b.h\\\n c.h\n", "a.c", "a.h", "b.h", "c.h");
+	}
+
+	@Test
+	public void unescapesPaths()
+	{
+		expectPaths("a.o: inc/h\\ x.h inc/\\#1.h inc/$$x.h\n", "inc/h x.h", "inc/#1.h", "inc/$x.h");
+		expectPaths("a.o: C:\\dir\\a.c\n", "C:\\dir\\a.c");
+	}
+
+	@Test
+	public void ignoresPhonyHeaderRules()
+	{
+		expectPaths("a.o: a.c a.h \\\n  b.h\n\na.h:\n\nb.h:\n", "a.c", "a.h", "b.h");
+	}
+}
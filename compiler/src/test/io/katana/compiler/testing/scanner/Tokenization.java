@@ -23,7 +23,6 @@ import io.katana.compiler.scanner.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 
@@ -31,12 +30,12 @@ public class Tokenization
 {
 	private static final Path HERE = Paths.get("");
 
-	private final List<Token> tokens;
+	private final TokenBuffer tokens;
 	private final DiagnosticsManager diag;
 	private int currentToken = 0;
 	private int currentDiagnostic = 0;
 
-	private Tokenization(List<Token> tokens, DiagnosticsManager diag)
+	private Tokenization(TokenBuffer tokens, DiagnosticsManager diag)
 	{
 		this.tokens = tokens;
 		this.diag = diag;
@@ -61,12 +60,12 @@ public class Tokenization
 
 	public void expectToken(int offset, int length, TokenCategory category, TokenType type, Object value)
 	{
-		var token = tokens.get(currentToken++);
-		assertEquals("wrong token offset", offset, token.offset);
-		assertEquals("wrong token length", length, token.length);
-		assertEquals("wrong token category", category, token.category);
-		assertEquals("wrong token type", type, token.type);
-		assertEquals("wrong token value", value, token.value);
+		var index = currentToken++;
+		assertEquals("wrong token offset", offset, tokens.offset(index));
+		assertEquals("wrong token length", length, tokens.length(index));
+		assertEquals("wrong token category", category, tokens.category(index));
+		assertEquals("wrong token type", type, tokens.type(index));
+		assertEquals("wrong token value", value, tokens.value(index));
 	}
 
 	public void expectNoFurtherTokensOrErrors()
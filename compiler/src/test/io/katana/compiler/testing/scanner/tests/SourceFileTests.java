@@ -0,0 +1,93 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.compiler.testing.scanner.tests;
+
+import io.katana.compiler.scanner.SourceFile;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+
+public class SourceFileTests
+{
+	private static SourceFile file(String source)
+	{
+		return SourceFile.fromBytes(Paths.get(""), source.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void expectLocation(SourceFile file, int offset, int line, int column)
+	{
+		var location = file.resolve(offset, 1);
+		assertEquals("wrong line", line, location.line);
+		assertEquals("wrong column", column, location.column);
+		assertEquals("wrong offset", offset, location.offset);
+	}
+
+	@Test
+	public void resolvesAsciiOffsets()
+	{
+		var file = file("ab\ncd\n\nef");
+		expectLocation(file, 0, 0, 0);
+		expectLocation(file, 2, 0, 2);
+		expectLocation(file, 3, 1, 0);
+		expectLocation(file, 4, 1, 1);
+		expectLocation(file, 6, 2, 0);
+		expectLocation(file, 8, 3, 1);
+	}
+
+	@Test
+	public void returnsAsciiLines()
+	{
+		var file = file("ab\ncd\n\nef\n");
+		assertEquals("ab", file.line(0));
+		assertEquals("cd", file.line(1));
+		assertEquals("", file.line(2));
+		assertEquals("ef", file.line(3));
+		assertEquals("", file.line(4));
+	}
+
+	@Test
+	public void countsNonAsciiOffsetsInCodepoints()
+	{
+		var file = file("\u00E4\u00F6\n\u20ACx\n\uD83D\uDE00y");
+		assertEquals(8, file.length());
+		assertEquals('\u20AC', file.codepoint(3));
+		assertEquals(0x1F600, file.codepoint(6));
+		expectLocation(file, 1, 0, 1);
+		expectLocation(file, 4, 1, 1);
+		expectLocation(file, 7, 2, 1);
+	}
+
+	@Test
+	public void returnsNonAsciiLines()
+	{
+		var file = file("\u00E4\u00F6\n\u20ACx\n\uD83D\uDE00y");
+		assertEquals("\u00E4\u00F6", file.line(0));
+		assertEquals("\u20ACx", file.line(1));
+		assertEquals("\uD83D\uDE00y", file.line(2));
+		assertEquals("\u20ACx", file.slice(3, 2));
+	}
+
+	@Test
+	public void resolvesOffsetsInEmptyFile()
+	{
+		var file = file("");
+		assertEquals(0, file.length());
+		assertEquals("", file.line(0));
+		expectLocation(file, 0, 0, 0);
+	}
+}
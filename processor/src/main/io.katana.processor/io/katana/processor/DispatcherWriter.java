@@ -0,0 +1,174 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class DispatcherWriter
+{
+	private static final String VISITOR_PACKAGE = "io.katana.compiler.visitor";
+
+	private final ProcessingEnvironment env;
+	private final TypeElement visitor;
+	private final Map<Integer, List<ExecutableElement>> methodsByArity;
+	private PrintWriter out;
+
+	DispatcherWriter(ProcessingEnvironment env, TypeElement visitor, Map<Integer, List<ExecutableElement>> methodsByArity)
+	{
+		this.env = env;
+		this.visitor = visitor;
+		this.methodsByArity = methodsByArity;
+	}
+
+	private String typeName(TypeMirror type)
+	{
+		return env.getTypeUtils().erasure(type).toString();
+	}
+
+	private static String argList(int arity, String prefix)
+	{
+		return IntStream.rangeClosed(1, arity)
+		                .mapToObj(i -> prefix + "arg" + i)
+		                .collect(Collectors.joining(", "));
+	}
+
+	void write() throws IOException
+	{
+		var packageName = env.getElementUtils().getPackageOf(visitor).getQualifiedName().toString();
+		var binaryName = env.getElementUtils().getBinaryName(visitor).toString();
+		var className = binaryName.substring(binaryName.lastIndexOf('.') + 1) + "Dispatcher";
+		var file = env.getFiler().createSourceFile(packageName + "." + className, visitor);
+
+		try(var writer = new PrintWriter(file.openWriter()))
+		{
+			out = writer;
+			writeClass(packageName, className);
+		}
+	}
+
+	private void writeClass(String packageName, String className)
+	{
+		out.printf("// generated by %s, do not edit\n", VisitorProcessor.class.getName());
+		out.printf("package %s;\n\n", packageName);
+		out.printf("import %s.DispatchTables;\n", VISITOR_PACKAGE);
+		out.printf("import %s.IVisitor;\n", VISITOR_PACKAGE);
+		out.printf("import %s.ReflectionUtils;\n", VISITOR_PACKAGE);
+		out.printf("import %s.VisitDispatcher;\n\n", VISITOR_PACKAGE);
+		out.printf("@SuppressWarnings({\"unchecked\", \"rawtypes\", \"fallthrough\"})\n");
+		out.printf("public final class %s implements VisitDispatcher\n", className);
+		out.printf("{\n");
+
+		for(var entry : methodsByArity.entrySet())
+			writeCaseTable(entry.getKey(), entry.getValue());
+
+		for(var arity = 1; arity <= VisitorProcessor.MAX_ARITY; ++arity)
+			writeInvoke(arity, methodsByArity.get(arity));
+
+		writeInvokeVarargs();
+		out.printf("}\n");
+	}
+
+	private void writeCaseTable(int arity, List<ExecutableElement> methods)
+	{
+		var classes = methods.stream()
+		                     .map(m -> typeName(m.getParameters().get(0).asType()) + ".class")
+		                     .collect(Collectors.joining(",\n\t\t"));
+
+		out.printf("\tprivate static final ClassValue<Integer> CASES_%s = DispatchTables.firstCases(\n\t\t%s\n\t);\n\n", arity, classes);
+	}
+
+	private void writeInvoke(int arity, List<ExecutableElement> methods)
+	{
+		out.printf("\t@Override\n");
+		out.printf("\tpublic Object invoke(IVisitor self, %s)\n", argList(arity, "Object "));
+		out.printf("\t{\n");
+
+		if(methods != null)
+		{
+			out.printf("\t\tvar visitor = (%s)self;\n\n", typeName(visitor.asType()));
+			out.printf("\t\tswitch(DispatchTables.firstCase(CASES_%s, arg1))\n", arity);
+			out.printf("\t\t{\n");
+
+			for(var i = 0; i != methods.size(); ++i)
+				writeCase(i, methods.get(i));
+
+			out.printf("\t\tdefault:\n");
+			out.printf("\t\t\tbreak;\n");
+			out.printf("\t\t}\n\n");
+		}
+
+		out.printf("\t\tReflectionUtils.noMatchingMethodFound(self, %s);\n", argList(arity, ""));
+		out.printf("\t\tthrow new AssertionError(\"unreachable\");\n");
+		out.printf("\t}\n\n");
+	}
+
+	// cases fall through, a case whose remaining arguments do not match continues with the next candidate
+	private void writeCase(int index, ExecutableElement method)
+	{
+		var params = method.getParameters();
+		var conditions = IntStream.range(0, params.size())
+		                          .mapToObj(i -> String.format("(arg%s == null || arg%s instanceof %s)", i + 1, i + 1, typeName(params.get(i).asType())))
+		                          .collect(Collectors.joining(" && "));
+		var args = IntStream.range(0, params.size())
+		                    .mapToObj(i -> String.format("(%s)arg%s", typeName(params.get(i).asType()), i + 1))
+		                    .collect(Collectors.joining(", "));
+
+		out.printf("\t\tcase %s:\n", index);
+		out.printf("\t\t\tif(%s)\n", conditions);
+
+		if(method.getReturnType().getKind() == TypeKind.VOID)
+		{
+			out.printf("\t\t\t{\n");
+			out.printf("\t\t\t\tvisitor.visit(%s);\n", args);
+			out.printf("\t\t\t\treturn null;\n");
+			out.printf("\t\t\t}\n");
+		}
+		else
+			out.printf("\t\t\t\treturn visitor.visit(%s);\n", args);
+	}
+
+	private void writeInvokeVarargs()
+	{
+		out.printf("\t@Override\n");
+		out.printf("\tpublic Object invoke(IVisitor self, Object... args)\n");
+		out.printf("\t{\n");
+		out.printf("\t\tswitch(args.length)\n");
+		out.printf("\t\t{\n");
+
+		for(var arity = 1; arity <= VisitorProcessor.MAX_ARITY; ++arity)
+		{
+			var args = IntStream.range(0, arity)
+			                    .mapToObj(i -> String.format("args[%s]", i))
+			                    .collect(Collectors.joining(", "));
+			out.printf("\t\tcase %s: return invoke(self, %s);\n", arity, args);
+		}
+
+		out.printf("\t\tdefault: break;\n");
+		out.printf("\t\t}\n\n");
+		out.printf("\t\tReflectionUtils.noMatchingMethodFound(self, args);\n");
+		out.printf("\t\tthrow new AssertionError(\"unreachable\");\n");
+		out.printf("\t}\n");
+	}
+}
@@ -0,0 +1,277 @@
+// Copyright 2019 Markus Grech
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package io.katana.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+@SupportedAnnotationTypes("*")
+@SupportedOptions(VisitorProcessor.STRICT_OPTION)
+public class VisitorProcessor extends AbstractProcessor
+{
+	private static final String VISITOR_CLASS = "io.katana.compiler.visitor.IVisitor";
+	private static final String PARTIAL_VISITOR_ANNOTATION = "io.katana.compiler.visitor.PartialVisitor";
+	static final String STRICT_OPTION = "katana.strictVisitors";
+	static final int MAX_ARITY = 3;
+
+	private final List<TypeElement> classes = new ArrayList<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env)
+	{
+		var visitorClass = processingEnv.getElementUtils().getTypeElement(VISITOR_CLASS);
+
+		if(visitorClass == null)
+			return false;
+
+		var newClasses = new ArrayList<TypeElement>();
+
+		for(var type : ElementFilter.typesIn(env.getRootElements()))
+			collectClasses(type, newClasses);
+
+		classes.addAll(newClasses);
+
+		for(var clazz : newClasses)
+			if(isConcreteClass(clazz) && clazz != visitorClass && isSubclass(clazz.asType(), visitorClass.asType()))
+				processVisitor(clazz);
+
+		return false;
+	}
+
+	private void collectClasses(TypeElement type, List<TypeElement> result)
+	{
+		result.add(type);
+
+		for(var nested : ElementFilter.typesIn(type.getEnclosedElements()))
+			collectClasses(nested, result);
+	}
+
+	private boolean isConcreteClass(TypeElement type)
+	{
+		return type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT);
+	}
+
+	private boolean isSubclass(TypeMirror type, TypeMirror base)
+	{
+		var types = processingEnv.getTypeUtils();
+		return types.isSubtype(types.erasure(type), types.erasure(base));
+	}
+
+	private void error(String message, Element element)
+	{
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private void warning(String message, Element element)
+	{
+		var strict = Boolean.parseBoolean(processingEnv.getOptions().getOrDefault(STRICT_OPTION, "true"));
+		var kind = strict ? Diagnostic.Kind.ERROR : Diagnostic.Kind.WARNING;
+		processingEnv.getMessager().printMessage(kind, message, element);
+	}
+
+	private void processVisitor(TypeElement visitor)
+	{
+		var methodsByArity = new TreeMap<Integer, List<ExecutableElement>>();
+		var valid = true;
+
+		for(var method : ElementFilter.methodsIn(visitor.getEnclosedElements()))
+		{
+			if(!method.getSimpleName().contentEquals("visit"))
+				continue;
+
+			if(!validateVisitMethod(method))
+			{
+				valid = false;
+				continue;
+			}
+
+			methodsByArity.computeIfAbsent(method.getParameters().size(), ign -> new ArrayList<>()).add(method);
+		}
+
+		if(!valid)
+			return;
+
+		for(var entry : methodsByArity.entrySet())
+		{
+			entry.setValue(orderBySpecificity(entry.getValue()));
+
+			if(!isPartial(visitor))
+				checkCoverage(visitor, entry.getValue());
+		}
+
+		try
+		{
+			new DispatcherWriter(processingEnv, visitor, methodsByArity).write();
+		}
+		catch(IOException ex)
+		{
+			error(String.format("failed to generate dispatcher: %s", ex.getMessage()), visitor);
+		}
+	}
+
+	private boolean validateVisitMethod(ExecutableElement method)
+	{
+		var modifiers = method.getModifiers();
+
+		if(modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC))
+		{
+			error("visit methods must be non-private instance methods to be callable from the generated dispatcher", method);
+			return false;
+		}
+
+		var arity = method.getParameters().size();
+
+		if(arity == 0 || arity > MAX_ARITY)
+		{
+			error(String.format("visit methods must take between 1 and %s arguments", MAX_ARITY), method);
+			return false;
+		}
+
+		for(var param : method.getParameters())
+		{
+			var kind = param.asType().getKind();
+
+			if(kind != TypeKind.DECLARED && kind != TypeKind.TYPEVAR)
+			{
+				error("visit method parameters must be of class or interface type", param);
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isMoreSpecific(ExecutableElement a, ExecutableElement b)
+	{
+		var paramsA = a.getParameters();
+		var paramsB = b.getParameters();
+
+		for(var i = 0; i != paramsA.size(); ++i)
+			if(!isSubclass(paramsA.get(i).asType(), paramsB.get(i).asType()))
+				return false;
+
+		return true;
+	}
+
+	// more specific overloads are tried first, as with java overload resolution,
+	// unrelated overloads keep their declaration order
+	private List<ExecutableElement> orderBySpecificity(List<ExecutableElement> methods)
+	{
+		var remaining = new ArrayList<>(methods);
+		var result = new ArrayList<ExecutableElement>();
+
+		while(!remaining.isEmpty())
+		{
+			for(var candidate : remaining)
+			{
+				if(remaining.stream().anyMatch(m -> m != candidate && isMoreSpecific(m, candidate)))
+					continue;
+
+				result.add(candidate);
+				remaining.remove(candidate);
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	private boolean isPartial(TypeElement visitor)
+	{
+		for(var annotation : visitor.getAnnotationMirrors())
+		{
+			var type = (TypeElement)annotation.getAnnotationType().asElement();
+
+			if(type.getQualifiedName().contentEquals(PARTIAL_VISITOR_ANNOTATION))
+				return true;
+		}
+
+		return false;
+	}
+
+	private TypeElement superclassOf(TypeElement clazz)
+	{
+		var superclass = clazz.getSuperclass();
+
+		if(superclass.getKind() != TypeKind.DECLARED)
+			return null;
+
+		return (TypeElement)processingEnv.getTypeUtils().asElement(superclass);
+	}
+
+	private TypeElement commonSuperclass(TypeElement a, TypeElement b)
+	{
+		for(var clazz = a; clazz != null; clazz = superclassOf(clazz))
+			if(isSubclass(b.asType(), clazz.asType()))
+				return clazz;
+
+		return null;
+	}
+
+	// warn about concrete classes below the common superclass of the visited types that no overload accepts,
+	// the visitor would fail at runtime with "no matching method found" if it is ever passed one of them
+	private void checkCoverage(TypeElement visitor, List<ExecutableElement> methods)
+	{
+		TypeElement root = null;
+
+		for(var method : methods)
+		{
+			var type = processingEnv.getTypeUtils().asElement(method.getParameters().get(0).asType());
+
+			if(type == null || type.getKind() != ElementKind.CLASS)
+				return;
+
+			root = root == null ? (TypeElement)type : commonSuperclass(root, (TypeElement)type);
+
+			if(root == null || root.getQualifiedName().contentEquals("java.lang.Object"))
+				return;
+		}
+
+		for(var clazz : classes)
+		{
+			if(!isConcreteClass(clazz) || !isSubclass(clazz.asType(), root.asType()))
+				continue;
+
+			if(methods.stream().anyMatch(m -> isSubclass(clazz.asType(), m.getParameters().get(0).asType())))
+				continue;
+
+			var fmt = "no visit method of arity %s in '%s' accepts '%s'";
+			warning(String.format(fmt, methods.get(0).getParameters().size(), visitor.getQualifiedName(), clazz.getQualifiedName()), visitor);
+		}
+	}
+}
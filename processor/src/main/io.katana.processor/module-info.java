@@ -0,0 +1,6 @@
+module io.katana.processor
+{
+	requires java.compiler;
+
+	provides javax.annotation.processing.Processor with io.katana.processor.VisitorProcessor;
+}